@@ -10,6 +10,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.Instant;
 import lombok.Getter;
@@ -27,6 +28,10 @@ public class BankState {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Column(name = "slot_id", nullable = false)
     private Integer slotId;
 
@@ -57,4 +62,10 @@ public class BankState {
 
     @Column(name = "last_update_timestamp", nullable = false)
     private Instant lastUpdateTimestamp;
+
+    @Column(name = "rng_seed", nullable = false)
+    private Long rngSeed;
+
+    @Column(name = "ledger_archived_before_day")
+    private Integer ledgerArchivedBeforeDay;
 }
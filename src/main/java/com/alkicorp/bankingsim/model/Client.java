@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
 import java.time.Instant;
 import lombok.Getter;
@@ -26,6 +27,10 @@ public class Client {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "bank_state_id", nullable = false)
     private BankState bankState;
@@ -63,6 +68,9 @@ public class Client {
     @Column(name = "monthly_mandatory_cache", precision = 19, scale = 2)
     private BigDecimal monthlyMandatoryCache;
 
+    @Column(name = "last_spending_day")
+    private Integer lastSpendingDay;
+
     @Column(name = "monthly_discretionary_target", precision = 19, scale = 2)
     private BigDecimal monthlyDiscretionaryTarget;
 
@@ -0,0 +1,57 @@
+package com.alkicorp.bankingsim.model;
+
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Per client, game day and transaction type: the total and number of ledger rows. Maintained by database
+ * triggers on {@code client_transaction}, so it has no setters and is never saved from here.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@IdClass(ClientDaySummary.Key.class)
+@Table(name = "client_day_summary")
+public class ClientDaySummary {
+
+    @Id
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Id
+    @Column(name = "game_day", nullable = false)
+    private Integer gameDay;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 40)
+    private TransactionType type;
+
+    @Column(name = "total_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "tx_count", nullable = false)
+    private Integer txCount;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private Long clientId;
+        private Integer gameDay;
+        private TransactionType type;
+    }
+}
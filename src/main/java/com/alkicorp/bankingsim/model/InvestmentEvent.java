@@ -12,6 +12,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -27,7 +28,8 @@ import lombok.Setter;
 public class InvestmentEvent {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "investment_event_seq")
+    @SequenceGenerator(name = "investment_event_seq", sequenceName = "investment_event_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "slot_id", nullable = false)
@@ -0,0 +1,79 @@
+package com.alkicorp.bankingsim.repository;
+
+import com.alkicorp.bankingsim.model.ClientDaySummary;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ClientDaySummaryRepository extends JpaRepository<ClientDaySummary, ClientDaySummary.Key> {
+
+    @Query("""
+            select s.gameDay as gameDay, s.type as type, sum(s.totalAmount) as total
+            from ClientDaySummary s, Client c
+            where c.id = s.clientId
+              and c.slotId = :slotId
+              and c.bankState.user.id = :userId
+            group by s.gameDay, s.type
+            """)
+    List<SlotDayTotalProjection> findSlotDayTotals(@Param("slotId") Integer slotId, @Param("userId") Long userId);
+
+    @Query("""
+            select s.gameDay as gameDay, s.type as type, sum(s.totalAmount) as total
+            from ClientDaySummary s, Client c
+            where c.id = s.clientId
+              and c.slotId = :slotId
+              and c.bankState.user.id = :userId
+              and s.gameDay >= :fromDay
+            group by s.gameDay, s.type
+            """)
+    List<SlotDayTotalProjection> findSlotDayTotalsFrom(@Param("slotId") Integer slotId,
+            @Param("userId") Long userId,
+            @Param("fromDay") Integer fromDay);
+
+    @Query("""
+            select
+              coalesce(sum(case when s.type in :depositTypes then s.totalAmount else 0 end), 0) as income,
+              coalesce(sum(case when s.type in :depositTypes then 0 else s.totalAmount end), 0) as spending
+            from ClientDaySummary s
+            where s.clientId = :clientId
+              and s.gameDay = :gameMonth
+            """)
+    MonthlyCashflowProjection findMonthlyCashflow(@Param("clientId") Long clientId,
+            @Param("gameMonth") Integer gameMonth,
+            @Param("depositTypes") Collection<TransactionType> depositTypes);
+
+    @Query("""
+            select
+              coalesce(sum(s.totalAmount), 0) as total,
+              coalesce(sum(case when s.gameDay = :gameDay then s.totalAmount else 0 end), 0) as onDay
+            from ClientDaySummary s, Client c
+            where c.id = s.clientId
+              and c.slotId = :slotId
+              and c.bankState.user.id = :userId
+              and s.type in :types
+            """)
+    SlotTotalProjection findSlotTotal(@Param("slotId") Integer slotId,
+            @Param("userId") Long userId,
+            @Param("types") Collection<TransactionType> types,
+            @Param("gameDay") Integer gameDay);
+
+    interface SlotDayTotalProjection {
+        Integer getGameDay();
+        TransactionType getType();
+        BigDecimal getTotal();
+    }
+
+    interface MonthlyCashflowProjection {
+        BigDecimal getIncome();
+        BigDecimal getSpending();
+    }
+
+    interface SlotTotalProjection {
+        BigDecimal getTotal();
+        BigDecimal getOnDay();
+    }
+}
@@ -1,18 +1,71 @@
 package com.alkicorp.bankingsim.repository;
 
 import com.alkicorp.bankingsim.model.Client;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ClientRepository extends JpaRepository<Client, Long> {
     List<Client> findBySlotIdAndBankStateUserId(Integer slotId, Long userId);
 
     Optional<Client> findByIdAndSlotIdAndBankStateUserId(Long id, Integer slotId, Long userId);
 
-    void deleteBySlotIdAndBankStateUserId(Integer slotId, Long userId);
-
     List<Client> findBySlotId(Integer slotId);
 
     Optional<Client> findByIdAndSlotId(Long id, Integer slotId);
+
+    /**
+     * The slot's clients with their latest primary job and the slot's game day, in one query.
+     */
+    @Query("""
+            select c.id as id, c.name as name, c.checkingBalance as checkingBalance,
+              c.savingsBalance as savingsBalance, c.dailyWithdrawn as dailyWithdrawn,
+              c.monthlyIncomeCache as monthlyIncome, c.monthlyMandatoryCache as monthlyMandatory,
+              c.monthlyDiscretionaryTarget as monthlyDiscretionary, c.cardNumber as cardNumber,
+              c.cardExpiry as cardExpiry, c.cardCvv as cardCvv, c.employmentStatus as employmentStatus,
+              j.id as primaryJobId, j.title as primaryJobTitle, j.employer as primaryJobEmployer,
+              j.annualSalary as primaryJobAnnualSalary, j.payCycleDays as primaryJobPayCycleDays,
+              cj.startDate as primaryJobStartDate, c.bankrupt as bankrupt, c.bankruptUntil as bankruptUntil,
+              c.purchasingBlockReason as purchasingBlockReason, s.gameDay as gameDay
+            from Client c
+              join c.bankState s
+              left join ClientJob cj on cj.id = (
+                select p.id from ClientJob p
+                where p.client = c and p.primary = true
+                order by p.startDate desc, p.id desc
+                limit 1)
+              left join cj.job j
+            where c.slotId = :slotId and s.user.id = :userId
+            order by c.id
+            """)
+    List<ClientListRow> findListRows(@Param("slotId") Integer slotId, @Param("userId") Long userId);
+
+    interface ClientListRow {
+        Long getId();
+        String getName();
+        BigDecimal getCheckingBalance();
+        BigDecimal getSavingsBalance();
+        BigDecimal getDailyWithdrawn();
+        BigDecimal getMonthlyIncome();
+        BigDecimal getMonthlyMandatory();
+        BigDecimal getMonthlyDiscretionary();
+        String getCardNumber();
+        String getCardExpiry();
+        String getCardCvv();
+        String getEmploymentStatus();
+        Long getPrimaryJobId();
+        String getPrimaryJobTitle();
+        String getPrimaryJobEmployer();
+        BigDecimal getPrimaryJobAnnualSalary();
+        Integer getPrimaryJobPayCycleDays();
+        Instant getPrimaryJobStartDate();
+        Boolean getBankrupt();
+        Double getBankruptUntil();
+        String getPurchasingBlockReason();
+        Double getGameDay();
+    }
 }
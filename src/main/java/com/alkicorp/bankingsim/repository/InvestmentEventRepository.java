@@ -2,9 +2,10 @@ package com.alkicorp.bankingsim.repository;
 
 import com.alkicorp.bankingsim.model.InvestmentEvent;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface InvestmentEventRepository extends JpaRepository<InvestmentEvent, Long> {
-    List<InvestmentEvent> findBySlotIdAndUserId(Integer slotId, Long userId);
-    void deleteBySlotIdAndUserId(Integer slotId, Long userId);
+    List<InvestmentEvent> findBySlotIdAndUserIdOrderByGameDayDescCreatedAtDesc(Integer slotId, Long userId,
+            Limit limit);
 }
@@ -1,9 +1,12 @@
 package com.alkicorp.bankingsim.repository;
 
 import com.alkicorp.bankingsim.model.SpendingCategory;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface SpendingCategoryRepository extends JpaRepository<SpendingCategory, Long> {
+    @QueryHints(@QueryHint(name = "org.hibernate.cacheable", value = "true"))
     List<SpendingCategory> findAllByOrderByIdAsc();
 }
@@ -1,53 +1,194 @@
 package com.alkicorp.bankingsim.repository;
 
-import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
-    List<Transaction> findByClientOrderByCreatedAtDesc(Client client);
-    List<Transaction> findByClientIn(Collection<Client> clients);
-    List<Transaction> findByClientInAndTypeInOrderByCreatedAtDesc(Collection<Client> clients, Collection<TransactionType> types);
-    List<Transaction> findByClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(Long clientId, Collection<TransactionType> types);
-    void deleteByClientIn(Collection<Client> clients);
+    List<Transaction> findByBankStateIdAndClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(Long bankStateId,
+            Long clientId, Collection<TransactionType> types);
 
-    boolean existsByClientIdAndTypeAndGameDay(Long clientId, com.alkicorp.bankingsim.model.enums.TransactionType type, Integer gameDay);
+    /**
+     * Picks the query with or without the lower game-day bound. Testing {@code fromDay} for null inside one
+     * query would keep a generic plan from pruning the slot's archive partition; the other paged and
+     * slot-wide reads below are split the same way.
+     */
+    default List<Transaction> findLatestPage(Long bankStateId, Long clientId, TransactionType type,
+            Integer fromDay, Integer toDay, Limit limit) {
+        return fromDay == null
+                ? findLatestPageAllDays(bankStateId, clientId, type, toDay, limit)
+                : findLatestPageFromDay(bankStateId, clientId, type, fromDay, toDay, limit);
+    }
+
+    @Query("""
+            select t from Transaction t
+            where t.bankStateId = :bankStateId
+              and t.client.id = :clientId
+              and (:type is null or t.type = :type)
+              and (:toDay is null or t.gameDay <= :toDay)
+            order by t.createdAt desc, t.id desc
+            """)
+    List<Transaction> findLatestPageAllDays(@Param("bankStateId") Long bankStateId,
+            @Param("clientId") Long clientId,
+            @Param("type") TransactionType type,
+            @Param("toDay") Integer toDay,
+            Limit limit);
+
+    @Query("""
+            select t from Transaction t
+            where t.bankStateId = :bankStateId
+              and t.client.id = :clientId
+              and (:type is null or t.type = :type)
+              and t.gameDay >= :fromDay
+              and (:toDay is null or t.gameDay <= :toDay)
+            order by t.createdAt desc, t.id desc
+            """)
+    List<Transaction> findLatestPageFromDay(@Param("bankStateId") Long bankStateId,
+            @Param("clientId") Long clientId,
+            @Param("type") TransactionType type,
+            @Param("fromDay") int fromDay,
+            @Param("toDay") Integer toDay,
+            Limit limit);
+
+    default List<Transaction> findPageBefore(Long bankStateId, Long clientId, TransactionType type,
+            Integer fromDay, Integer toDay, Instant createdAt, Long id, Limit limit) {
+        return fromDay == null
+                ? findPageBeforeAllDays(bankStateId, clientId, type, toDay, createdAt, id, limit)
+                : findPageBeforeFromDay(bankStateId, clientId, type, fromDay, toDay, createdAt, id, limit);
+    }
 
     @Query("""
-            select
-              coalesce(sum(case when t.type in :depositTypes then t.amount else 0 end), 0) as income,
-              coalesce(sum(case when t.type in :depositTypes then 0 else t.amount end), 0) as spending
-            from Transaction t
-            where t.client.id = :clientId
-              and t.client.slotId = :slotId
-              and t.gameDay = :gameMonth
+            select t from Transaction t
+            where t.bankStateId = :bankStateId
+              and t.client.id = :clientId
+              and (:type is null or t.type = :type)
+              and (:toDay is null or t.gameDay <= :toDay)
+              and t.createdAt <= :createdAt
+              and (t.createdAt < :createdAt or t.id < :id)
+            order by t.createdAt desc, t.id desc
             """)
-    MonthlyCashflowProjection findMonthlyCashflow(@Param("clientId") Long clientId,
-            @Param("slotId") Integer slotId,
-            @Param("gameMonth") Integer gameMonth,
-            @Param("depositTypes") Collection<TransactionType> depositTypes);
+    List<Transaction> findPageBeforeAllDays(@Param("bankStateId") Long bankStateId,
+            @Param("clientId") Long clientId,
+            @Param("type") TransactionType type,
+            @Param("toDay") Integer toDay,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query("""
+            select t from Transaction t
+            where t.bankStateId = :bankStateId
+              and t.client.id = :clientId
+              and (:type is null or t.type = :type)
+              and t.gameDay >= :fromDay
+              and (:toDay is null or t.gameDay <= :toDay)
+              and t.createdAt <= :createdAt
+              and (t.createdAt < :createdAt or t.id < :id)
+            order by t.createdAt desc, t.id desc
+            """)
+    List<Transaction> findPageBeforeFromDay(@Param("bankStateId") Long bankStateId,
+            @Param("clientId") Long clientId,
+            @Param("type") TransactionType type,
+            @Param("fromDay") int fromDay,
+            @Param("toDay") Integer toDay,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    /**
+     * Rows that sort after the cursor, oldest first. Rows that sort before it but committed later are picked up
+     * by re-reading the page before it; see {@link com.alkicorp.bankingsim.service.TransactionCursor}.
+     */
+    default List<Transaction> findPageAfter(Long bankStateId, Long clientId, TransactionType type,
+            Integer fromDay, Integer toDay, Instant createdAt, Long id, Limit limit) {
+        return fromDay == null
+                ? findPageAfterAllDays(bankStateId, clientId, type, toDay, createdAt, id, limit)
+                : findPageAfterFromDay(bankStateId, clientId, type, fromDay, toDay, createdAt, id, limit);
+    }
+
+    @Query("""
+            select t from Transaction t
+            where t.bankStateId = :bankStateId
+              and t.client.id = :clientId
+              and (:type is null or t.type = :type)
+              and (:toDay is null or t.gameDay <= :toDay)
+              and t.createdAt >= :createdAt
+              and (t.createdAt > :createdAt or t.id > :id)
+            order by t.createdAt asc, t.id asc
+            """)
+    List<Transaction> findPageAfterAllDays(@Param("bankStateId") Long bankStateId,
+            @Param("clientId") Long clientId,
+            @Param("type") TransactionType type,
+            @Param("toDay") Integer toDay,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    @Query("""
+            select t from Transaction t
+            where t.bankStateId = :bankStateId
+              and t.client.id = :clientId
+              and (:type is null or t.type = :type)
+              and t.gameDay >= :fromDay
+              and (:toDay is null or t.gameDay <= :toDay)
+              and t.createdAt >= :createdAt
+              and (t.createdAt > :createdAt or t.id > :id)
+            order by t.createdAt asc, t.id asc
+            """)
+    List<Transaction> findPageAfterFromDay(@Param("bankStateId") Long bankStateId,
+            @Param("clientId") Long clientId,
+            @Param("type") TransactionType type,
+            @Param("fromDay") int fromDay,
+            @Param("toDay") Integer toDay,
+            @Param("createdAt") Instant createdAt,
+            @Param("id") Long id,
+            Limit limit);
+
+    default List<SlotRowProjection> findLatestSlotRows(Long bankStateId, Integer fromDay,
+            Collection<TransactionType> types, Limit limit) {
+        return fromDay == null
+                ? findLatestSlotRowsAllDays(bankStateId, types, limit)
+                : findLatestSlotRowsFromDay(bankStateId, fromDay, types, limit);
+    }
+
+    @Query("""
+            select c.name as clientName, t.type as type, t.amount as amount, t.gameDay as gameDay,
+              t.createdAt as createdAt
+            from Transaction t join t.client c
+            where t.bankStateId = :bankStateId
+              and t.type in :types
+            order by t.gameDay desc, t.createdAt desc
+            """)
+    List<SlotRowProjection> findLatestSlotRowsAllDays(@Param("bankStateId") Long bankStateId,
+            @Param("types") Collection<TransactionType> types,
+            Limit limit);
 
     @Query("""
-            select coalesce(sum(t.amount), 0)
-            from Transaction t
-            where t.client.id = :clientId
+            select c.name as clientName, t.type as type, t.amount as amount, t.gameDay as gameDay,
+              t.createdAt as createdAt
+            from Transaction t join t.client c
+            where t.bankStateId = :bankStateId
+              and t.gameDay >= :fromDay
               and t.type in :types
-              and t.gameDay >= :startDay
-              and (:endDay is null or t.gameDay < :endDay)
+            order by t.gameDay desc, t.createdAt desc
             """)
-    BigDecimal sumByClientAndTypesAndDayRange(@Param("clientId") Long clientId,
+    List<SlotRowProjection> findLatestSlotRowsFromDay(@Param("bankStateId") Long bankStateId,
+            @Param("fromDay") int fromDay,
             @Param("types") Collection<TransactionType> types,
-            @Param("startDay") Integer startDay,
-            @Param("endDay") Integer endDay);
+            Limit limit);
 
-    interface MonthlyCashflowProjection {
-        BigDecimal getIncome();
-        BigDecimal getSpending();
+    interface SlotRowProjection {
+        String getClientName();
+        TransactionType getType();
+        BigDecimal getAmount();
+        Integer getGameDay();
+        Instant getCreatedAt();
     }
 }
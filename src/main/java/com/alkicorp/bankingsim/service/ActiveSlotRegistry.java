@@ -0,0 +1,82 @@
+package com.alkicorp.bankingsim.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Slots the background ticker is currently advancing. A slot joins after its first inline catch-up has
+ * committed and drops out once nobody has touched it for the idle timeout; the next request then catches it
+ * up inline again.
+ */
+@Component
+public class ActiveSlotRegistry {
+
+    private final Map<SlotKey, Instant> lastAccess = new ConcurrentHashMap<>();
+    private final Clock clock = Clock.systemUTC();
+
+    @Value("${app.simulation.ticker.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.simulation.ticker.idle-timeout-ms:300000}")
+    private long idleTimeoutMs;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Refreshes the slot's last access time. Returns true when the ticker already owns the slot, meaning its
+     * state is materialized and callers can read it as-is.
+     */
+    public boolean touch(Long userId, int slotId) {
+        if (!enabled) {
+            return false;
+        }
+        return lastAccess.computeIfPresent(new SlotKey(userId, slotId), (key, previous) -> Instant.now(clock)) != null;
+    }
+
+    /**
+     * Hands the slot to the ticker once the current transaction commits, so a tick never replays days that an
+     * uncommitted catch-up has already applied.
+     */
+    public void registerAfterCommit(Long userId, int slotId) {
+        if (!enabled) {
+            return;
+        }
+        SlotKey key = new SlotKey(userId, slotId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lastAccess.put(key, Instant.now(clock));
+                }
+            });
+        } else {
+            lastAccess.put(key, Instant.now(clock));
+        }
+    }
+
+    public void remove(Long userId, int slotId) {
+        lastAccess.remove(new SlotKey(userId, slotId));
+    }
+
+    /**
+     * Drops idle slots and returns the ones still active.
+     */
+    public List<SlotKey> activeSlots() {
+        Instant cutoff = Instant.now(clock).minus(Duration.ofMillis(idleTimeoutMs));
+        lastAccess.entrySet().removeIf(entry -> entry.getValue().isBefore(cutoff));
+        return List.copyOf(lastAccess.keySet());
+    }
+
+    public record SlotKey(Long userId, int slotId) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.alkicorp.bankingsim.service;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Each slot's cumulative deposits and withdrawals per game day, in cents, for the activity chart. Only days
+ * before the slot's current day are kept: their rows were committed together with the bank clock that moved
+ * past them, so they no longer change and a poll only has to read the days after the last one kept. A reset
+ * drops the slot's series, again once it is committed; a read that raced with the reset is not kept.
+ */
+@Component
+public class ActivitySeriesCache {
+
+    private final Map<ActiveSlotRegistry.SlotKey, Series> series = new ConcurrentHashMap<>();
+
+    /**
+     * The days kept for the slot, possibly none.
+     */
+    public Series get(Long userId, int slotId) {
+        return series.computeIfAbsent(new ActiveSlotRegistry.SlotKey(userId, slotId), key -> Series.empty());
+    }
+
+    /**
+     * Keeps {@code extended} in place of {@code base}, unless the slot was reset or extended by another poll
+     * since {@code base} was read.
+     */
+    public void extend(Long userId, int slotId, Series base, Series extended) {
+        series.replace(new ActiveSlotRegistry.SlotKey(userId, slotId), base, extended);
+    }
+
+    public void invalidate(Long userId, int slotId) {
+        ActiveSlotRegistry.SlotKey key = new ActiveSlotRegistry.SlotKey(userId, slotId);
+        series.put(key, Series.empty());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Polls before the commit still see the old ledger; drop whatever they kept once the reset is visible.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    series.put(key, Series.empty());
+                }
+            });
+        }
+    }
+
+    /**
+     * Cumulative totals for days {@code 0..days()-1}. Instances are never modified and are compared by
+     * identity, so a stale base cannot replace a newer series.
+     */
+    public static final class Series {
+
+        private final long[] deposits;
+        private final long[] withdrawals;
+
+        private Series(long[] deposits, long[] withdrawals) {
+            this.deposits = deposits;
+            this.withdrawals = withdrawals;
+        }
+
+        static Series empty() {
+            return new Series(new long[0], new long[0]);
+        }
+
+        public int days() {
+            return deposits.length;
+        }
+
+        public long depositsThrough(int day) {
+            return day < 0 ? 0L : deposits[day];
+        }
+
+        public long withdrawalsThrough(int day) {
+            return day < 0 ? 0L : withdrawals[day];
+        }
+
+        /**
+         * This series followed by {@code count} more days of cumulative totals.
+         */
+        public Series append(long[] moreDeposits, long[] moreWithdrawals, int count) {
+            int days = days();
+            long[] nextDeposits = Arrays.copyOf(deposits, days + count);
+            long[] nextWithdrawals = Arrays.copyOf(withdrawals, days + count);
+            System.arraycopy(moreDeposits, 0, nextDeposits, days, count);
+            System.arraycopy(moreWithdrawals, 0, nextWithdrawals, days, count);
+            return new Series(nextDeposits, nextWithdrawals);
+        }
+    }
+}
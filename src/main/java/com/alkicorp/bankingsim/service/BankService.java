@@ -5,6 +5,8 @@ import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.web.dto.BankStateResponse;
+import com.alkicorp.bankingsim.web.dto.FastForwardResponse;
+import com.alkicorp.bankingsim.web.dto.LedgerArchiveResponse;
 import com.alkicorp.bankingsim.web.dto.SlotSummaryResponse;
 import java.math.BigDecimal;
 import java.util.List;
@@ -23,8 +25,22 @@ public class BankService {
     private final SimulationService simulationService;
     private final ClientRepository clientRepository;
     private final CurrentUserService currentUserService;
+    private final LedgerPartitions ledgerPartitions;
 
-    @Transactional
+    /**
+     * Catches the slots up before the request opens its transaction (see
+     * {@link SimulationService#advanceBeforeTransaction}); deliberately not transactional itself.
+     */
+    public void catchUp(List<Integer> slots) {
+        User user = currentUserService.getCurrentUser();
+        slots.forEach(slotId -> simulationService.advanceBeforeTransaction(user, slotId));
+    }
+
+    /**
+     * Read-only so that polling a slot the in-memory engine holds reads its last flush instead of making the
+     * engine flush and let go of the slot, as a writing transaction would.
+     */
+    @Transactional(readOnly = true)
     public List<SlotSummaryResponse> getSlotSummaries(List<Integer> slots) {
         User user = currentUserService.getCurrentUser();
         List<BankState> states = simulationService.listAndAdvanceSlots(user, slots);
@@ -81,6 +97,64 @@ public class BankService {
     }
 
     @Transactional
+    public FastForwardResponse fastForward(int slotId, int days) {
+        User user = currentUserService.getCurrentUser();
+        SimulationService.FastForwardReport report = simulationService.fastForward(user, slotId, days)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                                + "/start to initialize the slot."));
+        return FastForwardResponse.builder()
+                .slotId(slotId)
+                .days(report.days())
+                .fromGameDay(report.fromGameDay())
+                .toGameDay(report.toGameDay())
+                .elapsedMs(report.elapsedMs())
+                .daysPerSecond(report.daysPerSecond())
+                .rowsInserted(report.rowsInserted())
+                .rowsUpdated(report.rowsUpdated())
+                .stageMs(report.stageMs())
+                .bank(toResponse(report.state()))
+                .build();
+    }
+
+    /**
+     * Moves the slot's ledger rows from before game year {@code beforeYear} into its archive partition. Hot
+     * reads (client history, repayment income) start at the boundary from then on; the rollups behind the
+     * charts, the cashflow and the totals, and the ledger export still cover the archived years.
+     */
+    @Transactional
+    public LedgerArchiveResponse archiveLedger(int slotId, int beforeYear) {
+        User user = currentUserService.getCurrentUser();
+        BankState state = simulationService.getAndAdvanceState(user, slotId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                                + "/start to initialize the slot."));
+        int currentYear = (int) Math.floor(state.getGameDay()) / SimulationConstants.DAYS_PER_YEAR + 1;
+        if (beforeYear < 2 || beforeYear > currentYear) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Year must be between 2 and the current year (" + currentYear + ").");
+        }
+        int beforeDay = (beforeYear - 1) * SimulationConstants.DAYS_PER_YEAR;
+        Integer archivedBeforeDay = state.getLedgerArchivedBeforeDay();
+        if (archivedBeforeDay != null && beforeDay <= archivedBeforeDay) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "Years before " + (archivedBeforeDay / SimulationConstants.DAYS_PER_YEAR + 1)
+                            + " are already archived.");
+        }
+        long moved = ledgerPartitions.archive(state.getId(), beforeDay);
+        state.setLedgerArchivedBeforeDay(beforeDay);
+        return LedgerArchiveResponse.builder()
+                .slotId(slotId)
+                .archivedBeforeYear(beforeYear)
+                .archivedBeforeDay(beforeDay)
+                .rowsArchived(moved)
+                .build();
+    }
+
+    /**
+     * Read-only for the same reason as {@link #getSlotSummaries}: the dashboard polls this.
+     */
+    @Transactional(readOnly = true)
     public BankStateResponse getBankState(int slotId) {
         User user = currentUserService.getCurrentUser();
         BankState state = simulationService.getAndAdvanceState(user, slotId)
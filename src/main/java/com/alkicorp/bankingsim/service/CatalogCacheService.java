@@ -0,0 +1,62 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.model.Rental;
+import com.alkicorp.bankingsim.model.SpendingCategory;
+import com.alkicorp.bankingsim.web.dto.CacheStatsResponse;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+/**
+ * Reports how the second-level cache holding the catalog is doing. Counts come from Hibernate's statistics and
+ * run from startup; with {@code hibernate.generate_statistics} off there are none, and the report says so
+ * instead of listing zeros.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogCacheService {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final List<Class<?>> CACHED_ENTITIES = List.of(Job.class, Rental.class, SpendingCategory.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatsResponse getStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!statistics.isStatisticsEnabled()) {
+            return CacheStatsResponse.builder()
+                    .statisticsEnabled(false)
+                    .regions(List.of())
+                    .build();
+        }
+        List<CacheStatsResponse.Region> regions = new ArrayList<>();
+        for (Class<?> entity : CACHED_ENTITIES) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(entity.getName());
+            if (region != null) {
+                regions.add(CacheStatsResponse.Region.builder()
+                        .name(entity.getName())
+                        .hits(region.getHitCount())
+                        .misses(region.getMissCount())
+                        .puts(region.getPutCount())
+                        .build());
+            }
+        }
+        // Every cached query reads the catalog, so the query cache totals are the catalog's.
+        regions.add(CacheStatsResponse.Region.builder()
+                .name(QUERY_RESULTS_REGION)
+                .hits(statistics.getQueryCacheHitCount())
+                .misses(statistics.getQueryCacheMissCount())
+                .puts(statistics.getQueryCachePutCount())
+                .build());
+        return CacheStatsResponse.builder()
+                .statisticsEnabled(true)
+                .regions(regions)
+                .build();
+    }
+}
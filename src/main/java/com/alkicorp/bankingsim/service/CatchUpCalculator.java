@@ -0,0 +1,150 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bank-side catch-up for {@link SimulationService}.
+ * <p>
+ * Liquid cash growth, S&amp;P 500 growth and dividends only depend on the bank's own balances and on the
+ * repayments it received each day, so a whole span of elapsed days can be replayed in one pass once the
+ * client-side work has reported its daily inflows. The fast path works in {@link Money} and applies the same
+ * HALF_UP rounding per day as the original BigDecimal rules; it falls back to {@link #stepBank} whenever a
+ * value is not representable in whole cents or the arithmetic would overflow.
+ */
+public final class CatchUpCalculator {
+
+    private CatchUpCalculator() {
+    }
+
+    /**
+     * Replays the bank-side rules for every day in {@code [firstDay, lastDay]}.
+     *
+     * @param inflows repayments credited to the bank on each day, indexed by {@code day - firstDay};
+     *                {@code null} entries count as zero
+     */
+    public static Result advanceBank(BigDecimal liquidCash, BigDecimal investedSp500, int firstDay, int lastDay,
+            BigDecimal[] inflows) {
+        try {
+            return advanceInCents(liquidCash, investedSp500, firstDay, lastDay, inflows);
+        } catch (ArithmeticException ex) {
+            return stepBank(liquidCash, investedSp500, firstDay, lastDay, inflows);
+        }
+    }
+
+    /**
+     * Reference implementation: the original per-day BigDecimal rules, one day at a time.
+     */
+    public static Result stepBank(BigDecimal liquidCash, BigDecimal investedSp500, int firstDay, int lastDay,
+            BigDecimal[] inflows) {
+        BigDecimal cash = liquidCash == null ? BigDecimal.ZERO : liquidCash;
+        BigDecimal invested = investedSp500 == null ? BigDecimal.ZERO : investedSp500;
+        Integer nextGrowthDay = null;
+        Integer nextDividendDay = null;
+        List<Event> events = new ArrayList<>();
+        for (int day = firstDay; day <= lastDay; day++) {
+            if (cash.compareTo(BigDecimal.ZERO) > 0) {
+                cash = cash.add(cash.multiply(SimulationConstants.LIQUID_CASH_MONTHLY_GROWTH)
+                        .setScale(2, RoundingMode.HALF_UP));
+            }
+            if (isYearEnd(day)) {
+                if (invested.compareTo(BigDecimal.ZERO) > 0) {
+                    BigDecimal growth = invested.multiply(SimulationConstants.SP500_ANNUAL_GROWTH)
+                            .setScale(2, RoundingMode.HALF_UP);
+                    invested = invested.add(growth);
+                    events.add(new Event(InvestmentEventType.GROWTH, growth, day));
+                }
+                nextGrowthDay = day + SimulationConstants.DAYS_PER_YEAR;
+                if (invested.compareTo(BigDecimal.ZERO) > 0) {
+                    BigDecimal dividend = invested.multiply(SimulationConstants.SP500_ANNUAL_DIVIDEND)
+                            .setScale(2, RoundingMode.HALF_UP);
+                    cash = cash.add(dividend);
+                    events.add(new Event(InvestmentEventType.DIVIDEND, dividend, day));
+                }
+                nextDividendDay = day + SimulationConstants.DAYS_PER_YEAR;
+            }
+            BigDecimal inflow = inflowAt(inflows, day - firstDay);
+            if (inflow != null) {
+                cash = cash.add(inflow);
+            }
+        }
+        return new Result(cash, invested, nextGrowthDay, nextDividendDay, events);
+    }
+
+    private static Result advanceInCents(BigDecimal liquidCash, BigDecimal investedSp500, int firstDay, int lastDay,
+            BigDecimal[] inflows) {
+        // Money.of throws when a value carries sub-cent digits, which sends the caller to the BigDecimal path.
+        Money cash = Money.of(liquidCash);
+        Money invested = Money.of(investedSp500);
+        Rate cashGrowth = Rate.of(SimulationConstants.LIQUID_CASH_MONTHLY_GROWTH);
+        Rate sp500Growth = Rate.of(SimulationConstants.SP500_ANNUAL_GROWTH);
+        Rate sp500Dividend = Rate.of(SimulationConstants.SP500_ANNUAL_DIVIDEND);
+        Integer nextGrowthDay = null;
+        Integer nextDividendDay = null;
+        List<Event> events = new ArrayList<>();
+        for (int day = firstDay; day <= lastDay; day++) {
+            if (cash.isPositive()) {
+                cash = cash.plus(cashGrowth.apply(cash));
+            }
+            if (isYearEnd(day)) {
+                if (invested.isPositive()) {
+                    Money growth = sp500Growth.apply(invested);
+                    invested = invested.plus(growth);
+                    events.add(new Event(InvestmentEventType.GROWTH, growth.toBigDecimal(), day));
+                }
+                nextGrowthDay = day + SimulationConstants.DAYS_PER_YEAR;
+                if (invested.isPositive()) {
+                    Money dividend = sp500Dividend.apply(invested);
+                    cash = cash.plus(dividend);
+                    events.add(new Event(InvestmentEventType.DIVIDEND, dividend.toBigDecimal(), day));
+                }
+                nextDividendDay = day + SimulationConstants.DAYS_PER_YEAR;
+            }
+            BigDecimal inflow = inflowAt(inflows, day - firstDay);
+            if (inflow != null) {
+                cash = cash.plus(Money.of(inflow));
+            }
+        }
+        return new Result(cash.toBigDecimal(), invested.toBigDecimal(), nextGrowthDay, nextDividendDay, events);
+    }
+
+    private static boolean isYearEnd(int day) {
+        return (day + 1) % SimulationConstants.DAYS_PER_YEAR == 0;
+    }
+
+    private static BigDecimal inflowAt(BigDecimal[] inflows, int index) {
+        return inflows == null || index >= inflows.length ? null : inflows[index];
+    }
+
+    /**
+     * A growth rate as an exact fraction so {@code setScale(2, HALF_UP)} can be reproduced on {@link Money}.
+     */
+    private record Rate(long numerator, long denominator) {
+
+        static Rate of(BigDecimal rate) {
+            BigDecimal stripped = rate.stripTrailingZeros();
+            int scale = Math.max(stripped.scale(), 0);
+            long numerator = stripped.movePointRight(scale).longValueExact();
+            long denominator = BigDecimal.ONE.movePointRight(scale).longValueExact();
+            return new Rate(numerator, denominator);
+        }
+
+        /** HALF_UP of {@code amount * rate}, as {@code setScale(2, HALF_UP)} does. */
+        Money apply(Money amount) {
+            return amount.times(numerator, denominator, RoundingMode.HALF_UP);
+        }
+    }
+
+    public record Event(InvestmentEventType type, BigDecimal amount, int gameDay) {
+    }
+
+    /**
+     * Bank balances after the span. The next growth/dividend day is {@code null} when no year end was crossed.
+     */
+    public record Result(BigDecimal liquidCash, BigDecimal investedSp500, Integer nextGrowthDay,
+            Integer nextDividendDay, List<Event> events) {
+    }
+}
@@ -4,18 +4,14 @@ import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
-import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.ClientDaySummaryRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
-import com.alkicorp.bankingsim.repository.TransactionRepository;
 import com.alkicorp.bankingsim.web.dto.ActivityChartResponse;
 import com.alkicorp.bankingsim.web.dto.ClientDistributionResponse;
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +24,8 @@ public class ChartService {
 
     private final SimulationService simulationService;
     private final ClientRepository clientRepository;
-    private final TransactionRepository transactionRepository;
+    private final ClientDaySummaryRepository clientDaySummaryRepository;
+    private final ActivitySeriesCache activitySeriesCache;
     private final CurrentUserService currentUserService;
 
     @Transactional(readOnly = true)
@@ -52,36 +49,46 @@ public class ChartService {
         Optional<BankState> stateOpt = simulationService.getAndAdvanceState(user, slotId);
         int currentDay = stateOpt.map(s -> (int) Math.floor(s.getGameDay())).orElse(0);
 
-        List<Client> clients = clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId());
-        List<Transaction> transactions = clients.isEmpty()
-            ? List.of()
-            : transactionRepository.findByClientIn(clients);
-
-        Map<Integer, BigDecimal> deposits = new HashMap<>();
-        Map<Integer, BigDecimal> withdrawals = new HashMap<>();
-        for (Transaction tx : transactions) {
-            Map<Integer, BigDecimal> target =
-                (tx.getType() == TransactionType.WITHDRAWAL || tx.getType() == TransactionType.MORTGAGE_DOWN_PAYMENT)
-                    ? withdrawals
-                    : deposits;
-            target.merge(tx.getGameDay(), tx.getAmount(), BigDecimal::add);
+        // Closed days come from the slot's cached series; only the days after it are read from the rollup.
+        ActivitySeriesCache.Series closed = activitySeriesCache.get(user.getId(), slotId);
+        int fromDay = Math.min(closed.days(), currentDay + 1);
+        int span = currentDay - fromDay + 1;
+        long[] deposits = new long[span];
+        long[] withdrawals = new long[span];
+        for (ClientDaySummaryRepository.SlotDayTotalProjection row
+            : clientDaySummaryRepository.findSlotDayTotalsFrom(slotId, user.getId(), fromDay)) {
+            int index = row.getGameDay() - fromDay;
+            if (index >= span) {
+                continue;
+            }
+            long cents = Money.of(row.getTotal()).cents();
+            if (row.getType() == TransactionType.WITHDRAWAL || row.getType() == TransactionType.MORTGAGE_DOWN_PAYMENT) {
+                withdrawals[index] += cents;
+            } else {
+                deposits[index] += cents;
+            }
+        }
+        long depositTotal = closed.depositsThrough(fromDay - 1);
+        long withdrawalTotal = closed.withdrawalsThrough(fromDay - 1);
+        for (int i = 0; i < span; i++) {
+            depositTotal += deposits[i];
+            withdrawalTotal += withdrawals[i];
+            deposits[i] = depositTotal;
+            withdrawals[i] = withdrawalTotal;
+        }
+        if (span > 1) {
+            // The current day can still change; everything before it is kept.
+            activitySeriesCache.extend(user.getId(), slotId, closed, closed.append(deposits, withdrawals, span - 1));
         }
 
-        List<Integer> days = new ArrayList<>();
-        List<Double> cumulativeDeposits = new ArrayList<>();
-        List<Double> cumulativeWithdrawals = new ArrayList<>();
-        BigDecimal depositTotal = BigDecimal.ZERO;
-        BigDecimal withdrawalTotal = BigDecimal.ZERO;
+        List<Integer> days = new ArrayList<>(currentDay + 1);
+        List<Double> cumulativeDeposits = new ArrayList<>(currentDay + 1);
+        List<Double> cumulativeWithdrawals = new ArrayList<>(currentDay + 1);
         for (int day = 0; day <= currentDay; day++) {
-            if (deposits.containsKey(day)) {
-                depositTotal = depositTotal.add(deposits.get(day));
-            }
-            if (withdrawals.containsKey(day)) {
-                withdrawalTotal = withdrawalTotal.add(withdrawals.get(day));
-            }
+            boolean cached = day < fromDay;
             days.add(day);
-            cumulativeDeposits.add(depositTotal.doubleValue());
-            cumulativeWithdrawals.add(withdrawalTotal.doubleValue());
+            cumulativeDeposits.add((cached ? closed.depositsThrough(day) : deposits[day - fromDay]) / 100.0);
+            cumulativeWithdrawals.add((cached ? closed.withdrawalsThrough(day) : withdrawals[day - fromDay]) / 100.0);
         }
         return ActivityChartResponse.builder()
             .days(days)
@@ -7,9 +7,11 @@ import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.ClientJob;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.ClientDaySummaryRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.web.dto.ClientResponse;
 import com.alkicorp.bankingsim.web.dto.MonthlyCashflowResponse;
 import jakarta.validation.ValidationException;
 import java.math.BigDecimal;
@@ -17,9 +19,13 @@ import java.math.RoundingMode;
 import java.security.SecureRandom;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,12 +43,20 @@ public class ClientService {
             TransactionType.MORTGAGE_DOWN_PAYMENT_FUNDING,
             TransactionType.PROPERTY_SALE);
 
+    private static final int TRANSACTION_PAGE_SIZE = 100;
+    private static final int MAX_TRANSACTION_PAGE_SIZE = 500;
+
     private final ClientRepository clientRepository;
     private final ClientJobRepository clientJobRepository;
     private final TransactionRepository transactionRepository;
+    private final ClientDaySummaryRepository clientDaySummaryRepository;
     private final SimulationService simulationService;
     private final CurrentUserService currentUserService;
+    private final SimulationRequestContext simulationRequestContext;
     private final Clock clock = Clock.systemUTC();
+
+    @Value("${app.transactions.after-lookback-ms:60000}")
+    private long afterLookbackMs;
     private final SecureRandom secureRandom = new SecureRandom();
 
     @Transactional
@@ -78,7 +92,9 @@ public class ClientService {
         client.setCardExpiry(card.expiry());
         client.setCardCvv(card.cvv());
         client.setCreatedAt(Instant.now(clock));
-        return clientRepository.save(client);
+        Client saved = clientRepository.save(client);
+        simulationRequestContext.clientsChanged(user.getId(), slotId);
+        return saved;
     }
 
     @Transactional
@@ -92,6 +108,49 @@ public class ClientService {
         return clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId());
     }
 
+    /**
+     * The slot's clients as list entries, read with one query whatever the number of clients (see
+     * {@link ClientRepository#findListRows}).
+     */
+    @Transactional
+    public List<ClientResponse> listClients(int slotId) {
+        User user = currentUserService.getCurrentUser();
+        simulationService.getAndAdvanceState(user, slotId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                                + "/start to initialize the slot."));
+        return clientRepository.findListRows(slotId, user.getId()).stream()
+                .map(ClientService::toResponse)
+                .toList();
+    }
+
+    private static ClientResponse toResponse(ClientRepository.ClientListRow row) {
+        return ClientResponse.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .checkingBalance(row.getCheckingBalance())
+                .savingsBalance(row.getSavingsBalance())
+                .dailyWithdrawn(row.getDailyWithdrawn())
+                .monthlyIncome(row.getMonthlyIncome())
+                .monthlyMandatory(row.getMonthlyMandatory())
+                .monthlyDiscretionary(row.getMonthlyDiscretionary())
+                .cardNumber(row.getCardNumber())
+                .cardExpiry(row.getCardExpiry())
+                .cardCvv(row.getCardCvv())
+                .employmentStatus(row.getEmploymentStatus())
+                .primaryJobId(row.getPrimaryJobId())
+                .primaryJobTitle(row.getPrimaryJobTitle())
+                .primaryJobEmployer(row.getPrimaryJobEmployer())
+                .primaryJobAnnualSalary(row.getPrimaryJobAnnualSalary())
+                .primaryJobPayCycleDays(row.getPrimaryJobPayCycleDays())
+                .primaryJobStartDate(row.getPrimaryJobStartDate())
+                .bankrupt(row.getBankrupt())
+                .bankruptUntil(row.getBankruptUntil())
+                .purchasingBlockReason(row.getPurchasingBlockReason())
+                .gameDay(row.getGameDay())
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public java.util.Optional<ClientJob> getPrimaryJob(Client client) {
         if (client == null || client.getId() == null) {
@@ -107,6 +166,13 @@ public class ClientService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
+        return findClient(user, slotId, clientId);
+    }
+
+    /**
+     * Loads the client for a caller that has already advanced the slot.
+     */
+    private Client findClient(User user, int slotId, Long clientId) {
         var clientOpt = clientRepository.findByIdAndSlotIdAndBankStateUserId(clientId, slotId, user.getId());
         return clientOpt.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Client not found"));
     }
@@ -161,13 +227,59 @@ public class ClientService {
 
     @Transactional
     public List<Transaction> getTransactions(Long clientId, int slotId) {
+        return getTransactions(clientId, slotId, null, null, null, null, null, null);
+    }
+
+    /**
+     * One page of the client's history, newest first, optionally limited to a type and a game-day range.
+     * Without a cursor this is the latest page; {@code before} continues with older rows and {@code after}
+     * returns the oldest rows newer than the cursor, so a caller can fetch what happened since its last page.
+     * An {@code after} page also repeats the rows created up to {@code app.transactions.after-lookback-ms}
+     * before the cursor, which picks up rows that committed after the cursor was handed out; the caller drops
+     * the ids it already has. At most {@link #MAX_TRANSACTION_PAGE_SIZE} rows are returned, twice that for an
+     * {@code after} page. Archived years are only included when {@code fromDay} reaches back into them.
+     */
+    @Transactional
+    public List<Transaction> getTransactions(Long clientId, int slotId, TransactionType type, Integer fromDay,
+            Integer toDay, TransactionCursor before, TransactionCursor after, Integer limit) {
+        if (before != null && after != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Use either before or after, not both.");
+        }
+        if (limit != null && limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be at least 1.");
+        }
         User user = currentUserService.getCurrentUser();
-        simulationService.getAndAdvanceState(user, slotId)
+        BankState state = simulationService.getAndAdvanceState(user, slotId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                         "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
                                 + "/start to initialize the slot."));
-        Client client = getClient(slotId, clientId);
-        return transactionRepository.findByClientOrderByCreatedAtDesc(client);
+        Client client = findClient(user, slotId, clientId);
+        Limit pageSize = Limit.of(transactionPageSize(limit));
+        Integer firstDay = fromDay != null ? fromDay : state.getLedgerArchivedBeforeDay();
+        if (before != null) {
+            return transactionRepository.findPageBefore(state.getId(), client.getId(), type, firstDay, toDay,
+                    before.createdAt(), before.id(), pageSize);
+        }
+        if (after != null) {
+            List<Transaction> page = new ArrayList<>(transactionRepository.findPageAfter(state.getId(),
+                    client.getId(), type, firstDay, toDay, after.createdAt(), after.id(), pageSize));
+            Collections.reverse(page);
+            // Rows behind the cursor come back again for as long as a late commit could still add to them.
+            Instant lookbackStart = after.createdAt().minusMillis(afterLookbackMs);
+            transactionRepository.findPageBefore(state.getId(), client.getId(), type, firstDay, toDay,
+                            after.createdAt(), after.id(), pageSize).stream()
+                    .takeWhile(tx -> !tx.getCreatedAt().isBefore(lookbackStart))
+                    .forEach(page::add);
+            return page;
+        }
+        return transactionRepository.findLatestPage(state.getId(), client.getId(), type, firstDay, toDay, pageSize);
+    }
+
+    /**
+     * The number of rows a history page holds for the requested {@code limit}.
+     */
+    public static int transactionPageSize(Integer limit) {
+        return limit == null ? TRANSACTION_PAGE_SIZE : Math.min(limit, MAX_TRANSACTION_PAGE_SIZE);
     }
 
     @Transactional(readOnly = true)
@@ -186,9 +298,8 @@ public class ClientService {
         getClient(slotId, clientId);
         int gameMonth = (year - 1) * SimulationConstants.DAYS_PER_YEAR + (month - 1);
 
-        TransactionRepository.MonthlyCashflowProjection totals = transactionRepository.findMonthlyCashflow(
+        ClientDaySummaryRepository.MonthlyCashflowProjection totals = clientDaySummaryRepository.findMonthlyCashflow(
                 clientId,
-                slotId,
                 gameMonth,
                 DEPOSIT_TYPES);
 
@@ -0,0 +1,77 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Transaction;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Passes every write on to another {@link TickWriter} and counts the rows: new ledger and investment rows, and
+ * distinct existing rows that were changed.
+ */
+final class CountingTickWriter implements TickWriter {
+
+    private final TickWriter delegate;
+    private final Set<Object> updated = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long inserted;
+
+    CountingTickWriter(TickWriter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void client(Client client) {
+        updated.add(client);
+        delegate.client(client);
+    }
+
+    @Override
+    public void loan(Loan loan) {
+        updated.add(loan);
+        delegate.loan(loan);
+    }
+
+    @Override
+    public void mortgage(Mortgage mortgage) {
+        updated.add(mortgage);
+        delegate.mortgage(mortgage);
+    }
+
+    @Override
+    public void living(ClientLiving living) {
+        updated.add(living);
+        delegate.living(living);
+    }
+
+    @Override
+    public void job(ClientJob job) {
+        updated.add(job);
+        delegate.job(job);
+    }
+
+    @Override
+    public void transaction(Transaction tx) {
+        inserted++;
+        delegate.transaction(tx);
+    }
+
+    @Override
+    public void investmentEvent(InvestmentEvent event) {
+        inserted++;
+        delegate.investmentEvent(event);
+    }
+
+    long inserted() {
+        return inserted;
+    }
+
+    long updated() {
+        return updated.size();
+    }
+}
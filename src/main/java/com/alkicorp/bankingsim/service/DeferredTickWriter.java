@@ -0,0 +1,60 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Transaction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Records what a partition of a parallel replay writes, so the calls can be handed to the real
+ * {@link TickWriter} later on the thread that owns it, in the order they were made.
+ */
+final class DeferredTickWriter implements TickWriter {
+
+    private final List<Consumer<TickWriter>> writes = new ArrayList<>();
+
+    @Override
+    public void client(Client client) {
+        writes.add(writer -> writer.client(client));
+    }
+
+    @Override
+    public void loan(Loan loan) {
+        writes.add(writer -> writer.loan(loan));
+    }
+
+    @Override
+    public void mortgage(Mortgage mortgage) {
+        writes.add(writer -> writer.mortgage(mortgage));
+    }
+
+    @Override
+    public void living(ClientLiving living) {
+        writes.add(writer -> writer.living(living));
+    }
+
+    @Override
+    public void job(ClientJob job) {
+        writes.add(writer -> writer.job(job));
+    }
+
+    @Override
+    public void transaction(Transaction tx) {
+        writes.add(writer -> writer.transaction(tx));
+    }
+
+    @Override
+    public void investmentEvent(InvestmentEvent event) {
+        writes.add(writer -> writer.investmentEvent(event));
+    }
+
+    void replayTo(TickWriter writer) {
+        writes.forEach(write -> write.accept(writer));
+    }
+}
@@ -0,0 +1,65 @@
+package com.alkicorp.bankingsim.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+
+/**
+ * Min-heap of one kind of obligation (loans, mortgages, livings) keyed by the due day each row already
+ * carries, so a replay only visits the rows that are due on a day instead of scanning every row every day.
+ * Rows due on the same day come back in the order they were given in.
+ */
+final class DueEventQueue<T> {
+
+    private final PriorityQueue<Scheduled<T>> heap = new PriorityQueue<>(
+            Comparator.comparingInt((Scheduled<T> scheduled) -> scheduled.day()).thenComparingInt(Scheduled::order));
+    private final List<Scheduled<T>> polled = new ArrayList<>();
+    private final Function<T, Integer> dueDay;
+
+    /**
+     * @param rows   the rows that can fall due; rows whose due day is null are left out
+     * @param dueDay reads a row's current due day
+     */
+    DueEventQueue(List<T> rows, Function<T, Integer> dueDay) {
+        this.dueDay = dueDay;
+        for (int i = 0; i < rows.size(); i++) {
+            Integer day = dueDay.apply(rows.get(i));
+            if (day != null) {
+                heap.add(new Scheduled<>(day, i, rows.get(i)));
+            }
+        }
+    }
+
+    /**
+     * Takes every row due on or before {@code day} off the queue, in their original order. Hand them back with
+     * {@link #requeue} once they have been processed.
+     */
+    List<T> pollDue(int day) {
+        while (!heap.isEmpty() && heap.peek().day() <= day) {
+            polled.add(heap.poll());
+        }
+        polled.sort(Comparator.comparingInt(Scheduled::order));
+        List<T> due = new ArrayList<>(polled.size());
+        polled.forEach(scheduled -> due.add(scheduled.row()));
+        return due;
+    }
+
+    /**
+     * Puts the rows returned by the last {@link #pollDue} back under their new due day. A row that did not move
+     * its due day past {@code day} is tried again the next day; a row without a due day is dropped.
+     */
+    void requeue(int day) {
+        for (Scheduled<T> scheduled : polled) {
+            Integer next = dueDay.apply(scheduled.row());
+            if (next != null) {
+                heap.add(new Scheduled<>(Math.max(next, day + 1), scheduled.order(), scheduled.row()));
+            }
+        }
+        polled.clear();
+    }
+
+    private record Scheduled<T>(int day, int order, T row) {
+    }
+}
@@ -0,0 +1,249 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Opt-in engine ({@code app.simulation.engine=memory}) that keeps each active slot's rows in a
+ * {@link SlotWorkingSet} between ticks instead of reloading and saving them through JPA every tick. Changes are
+ * written back every {@code app.simulation.memory.flush-interval-ms} in one transaction together with the
+ * bank's clock, so the database always holds a consistent slot as of its last flushed game day.
+ * <p>
+ * Crash recovery needs no log: after a restart the slot is caught up from the flushed
+ * {@code last_update_timestamp} by the regular catch-up pass, which replays exactly the days that were lost.
+ * Any request that writes to a slot first makes the engine flush and let go of it (see {@link #release}); the
+ * slot is reloaded on a later tick once that request has finished. {@code app.simulation.engine=jpa} (the
+ * default) keeps the direct-JPA path.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class InMemorySlotEngine {
+
+    private final BankStateRepository bankStateRepository;
+    private final TickProcessor tickProcessor;
+    private final PayrollService payrollService;
+    private final BankruptcyService bankruptcyService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final Clock clock = Clock.systemUTC();
+
+    private final Map<ActiveSlotRegistry.SlotKey, Resident> residents = new ConcurrentHashMap<>();
+    private final Set<ActiveSlotRegistry.SlotKey> held = ConcurrentHashMap.newKeySet();
+    private final AtomicLong releases = new AtomicLong();
+
+    @Value("${app.simulation.engine:jpa}")
+    private String engine;
+
+    @Value("${app.simulation.memory.flush-interval-ms:15000}")
+    private long flushIntervalMs;
+
+    public boolean isEnabled() {
+        return "memory".equalsIgnoreCase(engine);
+    }
+
+    /**
+     * Advances the slot's working set to now, loading it on first use, and flushes it when the flush interval
+     * has passed. Returns false when the slot no longer exists.
+     */
+    public boolean advance(Long userId, int slotId) {
+        ActiveSlotRegistry.SlotKey key = new ActiveSlotRegistry.SlotKey(userId, slotId);
+        if (held.contains(key)) {
+            return true;
+        }
+        Resident resident = residents.get(key);
+        if (resident == null) {
+            long releasesBeforeLoad = releases.get();
+            Optional<SlotWorkingSet> loaded = load(userId, slotId);
+            if (loaded.isEmpty()) {
+                return false;
+            }
+            resident = new Resident(loaded.get(), Instant.now(clock));
+            residents.put(key, resident);
+            if (releases.get() != releasesBeforeLoad) {
+                // A writer may have committed after our read; drop the copy and reload on the next tick.
+                residents.remove(key, resident);
+                return true;
+            }
+        }
+        synchronized (resident) {
+            if (resident.closed) {
+                return true;
+            }
+            advanceTime(resident);
+            Instant now = Instant.now(clock);
+            if (Duration.between(resident.lastFlush, now).toMillis() >= flushIntervalMs) {
+                flush(key, resident);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Flushes and forgets the slot so the caller can read and write it through JPA. Inside a transaction the
+     * slot also stays out of the engine until that transaction completes, so the engine never reloads a copy
+     * the caller is about to change.
+     */
+    public void release(Long userId, int slotId) {
+        if (!isEnabled()) {
+            return;
+        }
+        ActiveSlotRegistry.SlotKey key = new ActiveSlotRegistry.SlotKey(userId, slotId);
+        releases.incrementAndGet();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            held.add(key);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    held.remove(key);
+                }
+            });
+        }
+        evict(key);
+    }
+
+    /**
+     * Applies {@code change} to the slot's working set while the engine holds it, with the buffer as its writer,
+     * so the rows it hands over are written back with the next flush. Returns empty, without loading the slot,
+     * when the engine does not hold it.
+     */
+    public <T> Optional<T> updateResident(Long userId, int slotId,
+            BiFunction<SlotWorkingSet, TickWriter, T> change) {
+        Resident resident = residents.get(new ActiveSlotRegistry.SlotKey(userId, slotId));
+        if (resident == null) {
+            return Optional.empty();
+        }
+        synchronized (resident) {
+            if (resident.closed) {
+                return Optional.empty();
+            }
+            return Optional.ofNullable(change.apply(resident.set, resident.buffer));
+        }
+    }
+
+    /**
+     * Flushes and drops every working set whose slot is no longer active.
+     */
+    public void retain(Collection<ActiveSlotRegistry.SlotKey> activeSlots) {
+        for (ActiveSlotRegistry.SlotKey key : residents.keySet()) {
+            if (!activeSlots.contains(key)) {
+                evict(key);
+            }
+        }
+    }
+
+    public void flushAll() {
+        for (ActiveSlotRegistry.SlotKey key : residents.keySet()) {
+            evict(key);
+        }
+    }
+
+    private void evict(ActiveSlotRegistry.SlotKey key) {
+        Resident resident = residents.remove(key);
+        if (resident == null) {
+            return;
+        }
+        synchronized (resident) {
+            resident.closed = true;
+            flush(key, resident);
+        }
+    }
+
+    private Optional<SlotWorkingSet> load(Long userId, int slotId) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template.execute(status -> bankStateRepository.findBySlotIdAndUserId(slotId, userId)
+                .map(tickProcessor::load));
+    }
+
+    /**
+     * Writes the buffer and the bank state in one transaction. On failure, including a row another writer
+     * changed since the slot was loaded, nothing is written and the working set is dropped; the next tick
+     * reloads the slot, with that writer's change, and replays from the last flushed day.
+     */
+    private void flush(ActiveSlotRegistry.SlotKey key, Resident resident) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        BankState state = resident.set.state();
+        int rows = resident.buffer.pendingRows();
+        try {
+            template.executeWithoutResult(status -> {
+                resident.buffer.writeTo(jdbcTemplate, state);
+                // Runs after the batch so JPA loads the freshly written rows; it only touches bankruptcy flags.
+                bankruptcyService.checkDischarge(state.getSlotId(), state.getGameDay());
+            });
+            resident.buffer.committed(state);
+            resident.lastFlush = Instant.now(clock);
+            log.debug("Flushed {} row(s) for user {} slot {} at game day {}", rows, key.userId(), key.slotId(),
+                    state.getGameDay());
+        } catch (OptimisticLockingFailureException ex) {
+            resident.closed = true;
+            residents.remove(key, resident);
+            log.info("Flush of user {} slot {} lost a race with another writer; reloading the slot: {}",
+                    key.userId(), key.slotId(), ex.getMessage());
+        } catch (RuntimeException ex) {
+            resident.closed = true;
+            residents.remove(key, resident);
+            log.warn("Flush failed for user {} slot {}; it will be replayed from the last flushed day",
+                    key.userId(), key.slotId(), ex);
+        }
+    }
+
+    private void advanceTime(Resident resident) {
+        BankState state = resident.set.state();
+        Instant now = Instant.now(clock);
+        Instant last = Optional.ofNullable(state.getLastUpdateTimestamp()).orElse(now);
+        long elapsedMillis = Duration.between(last, now).toMillis();
+        double elapsedGameDays = elapsedMillis / (double) SimulationConstants.REAL_MS_PER_GAME_DAY;
+
+        double previousDayValue = Optional.ofNullable(state.getGameDay()).orElse(0d);
+        int previousWholeDay = (int) Math.floor(previousDayValue);
+        double newDayValue = previousDayValue + elapsedGameDays;
+        int currentWholeDay = (int) Math.floor(newDayValue);
+
+        state.setGameDay(newDayValue);
+        state.setLastUpdateTimestamp(now);
+
+        if (currentWholeDay > previousWholeDay) {
+            tickProcessor.replayDays(resident.set, previousWholeDay + 1, currentWholeDay, resident.buffer);
+        }
+        payrollService.runPayroll(resident.set.jobs(), newDayValue, resident.buffer);
+    }
+
+    /**
+     * A working set held between ticks with the changes not yet written back. Guarded by its own monitor.
+     */
+    private static final class Resident {
+
+        private final SlotWorkingSet set;
+        private final WriteBehindBuffer buffer = new WriteBehindBuffer();
+        private Instant lastFlush;
+        private boolean closed;
+
+        private Resident(SlotWorkingSet set, Instant loadedAt) {
+            this.set = set;
+            this.lastFlush = loadedAt;
+        }
+    }
+}
@@ -7,7 +7,7 @@ import com.alkicorp.bankingsim.model.InvestmentEvent;
 import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.BankStateRepository;
-import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.ClientDaySummaryRepository;
 import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
 import com.alkicorp.bankingsim.web.dto.InvestmentEventResponse;
@@ -18,10 +18,9 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.Instant;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,11 +30,19 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class InvestmentService {
 
+    private static final List<TransactionType> REPAYMENT_TYPES = List.of(
+            TransactionType.MORTGAGE_PAYMENT,
+            TransactionType.PERSONAL_LOAN_PAYMENT,
+            TransactionType.AUTO_LOAN_PAYMENT,
+            TransactionType.CREDIT_CARD_PAYMENT);
+
+    private static final Limit HISTORY_LIMIT = Limit.of(50);
+
     private final SimulationService simulationService;
     private final BankStateRepository bankStateRepository;
     private final InvestmentEventRepository investmentEventRepository;
-    private final ClientRepository clientRepository;
     private final TransactionRepository transactionRepository;
+    private final ClientDaySummaryRepository clientDaySummaryRepository;
     private final CurrentUserService currentUserService;
     private final Clock clock = Clock.systemUTC();
 
@@ -107,11 +114,9 @@ public class InvestmentService {
         int slotId = state.getSlotId();
         int currentDay = (int) Math.floor(state.getGameDay());
 
-        List<InvestmentEventResponse> history = investmentEventRepository.findBySlotIdAndUserId(slotId, user.getId())
+        List<InvestmentEventResponse> history = investmentEventRepository
+                .findBySlotIdAndUserIdOrderByGameDayDescCreatedAtDesc(slotId, user.getId(), HISTORY_LIMIT)
                 .stream()
-                .sorted(Comparator.comparing(InvestmentEvent::getGameDay).reversed()
-                        .thenComparing(Comparator.comparing(InvestmentEvent::getCreatedAt).reversed()))
-                .limit(50)
                 .map(event -> InvestmentEventResponse.builder()
                         .type(event.getType().name())
                         .asset(event.getAsset())
@@ -121,21 +126,22 @@ public class InvestmentService {
                         .build())
                 .toList();
 
-        List<RepaymentIncomeResponse> repayments = buildRepaymentIncome(slotId, user, currentDay);
-
-        BigDecimal repaymentTotal = repayments.stream()
-                .map(RepaymentIncomeResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        BigDecimal repaymentCurrentMonth = repayments.stream()
-                .filter(r -> r.getGameDay() == currentDay)
-                .map(RepaymentIncomeResponse::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-        List<RepaymentIncomeResponse> limitedRepayments = repayments.stream()
-                .limit(50)
+        List<RepaymentIncomeResponse> repayments = transactionRepository
+                .findLatestSlotRows(state.getId(), state.getLedgerArchivedBeforeDay(), REPAYMENT_TYPES, HISTORY_LIMIT)
+                .stream()
+                .map(row -> RepaymentIncomeResponse.builder()
+                        .clientName(row.getClientName())
+                        .type(row.getType())
+                        .amount(row.getAmount())
+                        .gameDay(row.getGameDay())
+                        .createdAt(row.getCreatedAt())
+                        .build())
                 .toList();
 
+        // Totals come from the daily rollup, so they cost one row per client-day rather than per repayment.
+        ClientDaySummaryRepository.SlotTotalProjection repaymentTotals = clientDaySummaryRepository.findSlotTotal(
+                slotId, user.getId(), REPAYMENT_TYPES, currentDay);
+
         return InvestmentStateResponse.builder()
                 .liquidCash(state.getLiquidCash())
                 .investedSp500(state.getInvestedSp500())
@@ -144,36 +150,12 @@ public class InvestmentService {
                 .nextGrowthDay(state.getNextGrowthDay())
                 .gameDay(state.getGameDay())
                 .history(history)
-                .repaymentIncome(limitedRepayments)
-                .repaymentIncomeTotal(repaymentTotal)
-                .repaymentIncomeCurrentMonth(repaymentCurrentMonth)
+                .repaymentIncome(repayments)
+                .repaymentIncomeTotal(repaymentTotals.getTotal())
+                .repaymentIncomeCurrentMonth(repaymentTotals.getOnDay())
                 .build();
     }
 
-    private List<RepaymentIncomeResponse> buildRepaymentIncome(int slotId, User user, int currentDay) {
-        var clients = clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId());
-        if (clients.isEmpty()) {
-            return List.of();
-        }
-        var repaymentTypes = List.of(
-                TransactionType.MORTGAGE_PAYMENT,
-                TransactionType.PERSONAL_LOAN_PAYMENT,
-                TransactionType.AUTO_LOAN_PAYMENT,
-                TransactionType.CREDIT_CARD_PAYMENT);
-        return transactionRepository.findByClientInAndTypeInOrderByCreatedAtDesc(clients, repaymentTypes).stream()
-                .sorted(Comparator.comparing(com.alkicorp.bankingsim.model.Transaction::getGameDay).reversed()
-                        .thenComparing(Comparator.comparing(com.alkicorp.bankingsim.model.Transaction::getCreatedAt)
-                                .reversed()))
-                .map(tx -> RepaymentIncomeResponse.builder()
-                        .clientName(tx.getClient().getName())
-                        .type(tx.getType())
-                        .amount(tx.getAmount())
-                        .gameDay(tx.getGameDay())
-                        .createdAt(tx.getCreatedAt())
-                        .build())
-                .toList();
-    }
-
     private void saveEvent(int slotId, User user, InvestmentEventType type, BigDecimal amount, BankState state) {
         InvestmentEvent event = new InvestmentEvent();
         event.setSlotId(slotId);
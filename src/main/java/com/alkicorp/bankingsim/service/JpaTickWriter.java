@@ -0,0 +1,69 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Direct-JPA path: every row is saved as soon as the step produces it.
+ */
+@Component
+@RequiredArgsConstructor
+public class JpaTickWriter implements TickWriter {
+
+    private final ClientRepository clientRepository;
+    private final LoanRepository loanRepository;
+    private final MortgageRepository mortgageRepository;
+    private final ClientLivingRepository clientLivingRepository;
+    private final ClientJobRepository clientJobRepository;
+    private final TransactionRepository transactionRepository;
+    private final InvestmentEventRepository investmentEventRepository;
+
+    @Override
+    public void client(Client client) {
+        clientRepository.save(client);
+    }
+
+    @Override
+    public void loan(Loan loan) {
+        loanRepository.save(loan);
+    }
+
+    @Override
+    public void mortgage(Mortgage mortgage) {
+        mortgageRepository.save(mortgage);
+    }
+
+    @Override
+    public void living(ClientLiving living) {
+        clientLivingRepository.save(living);
+    }
+
+    @Override
+    public void job(ClientJob job) {
+        clientJobRepository.save(job);
+    }
+
+    @Override
+    public void transaction(Transaction tx) {
+        transactionRepository.save(tx);
+    }
+
+    @Override
+    public void investmentEvent(InvestmentEvent event) {
+        investmentEventRepository.save(event);
+    }
+}
@@ -0,0 +1,226 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.model.BankState;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Streams a slot's whole ledger as CSV or NDJSON, oldest first by game day. Rows are read through a server-side cursor
+ * ({@code app.export.fetch-size} rows per round trip, inside a read-only transaction) and written out one by
+ * one, so memory use does not grow with the ledger.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerExportService {
+
+    private static final String SELECT_LEDGER = """
+            select t.id, t.client_id, c.name, t.type, t.amount, t.game_day, t.created_at
+            from client_transaction t
+            join client c on c.id = t.client_id
+            where t.bank_state_id = ?
+            order by t.game_day, t.created_at, t.id""";
+
+    private static final String CSV_HEADER = "id,client_id,client_name,type,amount,game_day,created_at\n";
+
+    private final SimulationService simulationService;
+    private final CurrentUserService currentUserService;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Format must be csv or ndjson.");
+            }
+        }
+    }
+
+    /**
+     * Catches the slot up and returns its bank state's id for {@link #write}, which runs after the request
+     * thread has returned and so cannot look up the current user itself.
+     */
+    @Transactional(readOnly = true)
+    public Long prepare(int slotId) {
+        User user = currentUserService.getCurrentUser();
+        BankState state = simulationService.getAndAdvanceState(user, slotId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Bank state not found for slot " + slotId + ". Use POST /api/slots/" + slotId
+                                + "/start to initialize the slot."));
+        return state.getId();
+    }
+
+    /**
+     * Writes the bank state's whole ledger, archived years included.
+     */
+    public void write(Long bankStateId, Format format, boolean gzip, OutputStream out) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(out, 8192) : out;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), 16384);
+        RowWriter rows = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        rows.start();
+        try {
+            template.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(SELECT_LEDGER,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(fetchSize);
+                ps.setLong(1, bankStateId);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                try {
+                    rows.write(rs);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }));
+        } catch (UncheckedIOException ex) {
+            // Usually the client went away; the cursor is closed instead of being read to the end.
+            throw ex.getCause();
+        }
+        rows.finish();
+        if (target instanceof GZIPOutputStream gzipStream) {
+            gzipStream.finish();
+        }
+        out.flush();
+    }
+
+    private interface RowWriter {
+        default void start() throws IOException {
+        }
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void start() throws IOException {
+            writer.write(CSV_HEADER);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            writer.write(Long.toString(rs.getLong(1)));
+            writer.write(',');
+            writer.write(Long.toString(rs.getLong(2)));
+            writer.write(',');
+            writeQuoted(rs.getString(3));
+            writer.write(',');
+            writer.write(rs.getString(4));
+            writer.write(',');
+            writer.write(rs.getBigDecimal(5).toPlainString());
+            writer.write(',');
+            writer.write(Integer.toString(rs.getInt(6)));
+            writer.write(',');
+            writer.write(rs.getTimestamp(7).toInstant().toString());
+            writer.write('\n');
+        }
+
+        private void writeQuoted(String value) throws IOException {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+
+        private static final JsonFactory JSON = new JsonFactory();
+
+        private final Writer writer;
+        private final JsonGenerator json;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+            try {
+                this.json = JSON.createGenerator(writer);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            json.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            // One object per line, without the space Jackson puts between root values.
+            json.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            json.writeStartObject();
+            json.writeNumberField("id", rs.getLong(1));
+            json.writeNumberField("clientId", rs.getLong(2));
+            json.writeStringField("clientName", rs.getString(3));
+            json.writeStringField("type", rs.getString(4));
+            json.writeNumberField("amount", rs.getBigDecimal(5));
+            json.writeNumberField("gameDay", rs.getInt(6));
+            json.writeStringField("createdAt", rs.getTimestamp(7).toInstant().toString());
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            json.flush();
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.alkicorp.bankingsim.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maintains the partitions of {@code client_transaction}. Every bank state (one user's slot) has a partition of
+ * its own, split by game day into a hot partition and an archive partition for the years archived with
+ * {@link #archive}. The work is done by the database functions of the same name, so it runs in the caller's
+ * transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class LedgerPartitions {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Creates the bank state's partition unless it exists. Rows written before it exists are kept in the
+     * default partition and moved over here.
+     */
+    public void ensure(long bankStateId) {
+        jdbcTemplate.queryForList("select client_transaction_ensure_partition(?)", bankStateId);
+    }
+
+    /**
+     * Empties the bank state's ledger by truncating its partition and drops its archive.
+     */
+    public void reset(long bankStateId) {
+        jdbcTemplate.queryForList("select client_transaction_reset_partition(?)", bankStateId);
+    }
+
+    /**
+     * Moves the bank state's rows before {@code beforeDay} into its archive partition and returns how many were
+     * moved. {@code beforeDay} must not be lower than the previous boundary.
+     */
+    public long archive(long bankStateId, int beforeDay) {
+        Long moved = jdbcTemplate.queryForObject("select client_transaction_archive(?, ?)", Long.class,
+                bankStateId, beforeDay);
+        return moved == null ? 0 : moved;
+    }
+}
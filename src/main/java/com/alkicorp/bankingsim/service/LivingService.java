@@ -29,6 +29,7 @@ public class LivingService {
     private final ProductRepository productRepository;
     private final CurrentUserService currentUserService;
     private final SimulationService simulationService;
+    private final MandatorySpendService mandatorySpendService;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional(readOnly = true)
@@ -54,7 +55,9 @@ public class LivingService {
         living.setStartDate(Instant.now(clock));
         living.setNextRentDay(computeNextRentDay(slotId));
         living.setDelinquent(false);
-        return clientLivingRepository.save(living);
+        ClientLiving saved = clientLivingRepository.save(living);
+        mandatorySpendService.recalcAndPersist(client);
+        return saved;
     }
 
     @Transactional
@@ -73,7 +76,9 @@ public class LivingService {
         living.setStartDate(Instant.now(clock));
         living.setNextRentDay(0);
         living.setDelinquent(false);
-        return clientLivingRepository.save(living);
+        ClientLiving saved = clientLivingRepository.save(living);
+        mandatorySpendService.recalcAndPersist(client);
+        return saved;
     }
 
     @Transactional
@@ -90,7 +95,9 @@ public class LivingService {
         living.setStartDate(Instant.now(clock));
         living.setNextRentDay(0);
         living.setDelinquent(false);
-        return clientLivingRepository.save(living);
+        ClientLiving saved = clientLivingRepository.save(living);
+        mandatorySpendService.recalcAndPersist(client);
+        return saved;
     }
 
     private int computeNextRentDay(int slotId) {
@@ -28,6 +28,7 @@ public class LoanService {
     private final ClientService clientService;
     private final CurrentUserService currentUserService;
     private final SimulationService simulationService;
+    private final MandatorySpendService mandatorySpendService;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional
@@ -92,7 +93,11 @@ public class LoanService {
         }
         loan.setStatus(status);
         loan.setUpdatedAt(Instant.now(clock));
-        return loanRepository.save(loan);
+        Loan saved = loanRepository.save(loan);
+        if (status == LoanStatus.APPROVED) {
+            mandatorySpendService.recalcAndPersist(saved.getClient());
+        }
+        return saved;
     }
 
     private void validateAmount(BigDecimal amount) {
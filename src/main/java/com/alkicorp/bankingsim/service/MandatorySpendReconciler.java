@@ -0,0 +1,116 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Checks every {@code app.simulation.mandatory-reconcile-interval-ms} that each client's
+ * {@code monthlyMandatoryCache} still matches their obligations. The cache is maintained by the requests that
+ * change a loan, mortgage or living, so drift means one of them missed an update; it is corrected and logged.
+ * A slot the in-memory engine holds is checked and corrected in its working set, so the check never evicts it;
+ * a slot that is being advanced at the same time is skipped until the next run.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MandatorySpendReconciler {
+
+    private final BankStateRepository bankStateRepository;
+    private final TickProcessor tickProcessor;
+    private final MandatorySpendService mandatorySpendService;
+    private final InMemorySlotEngine inMemorySlotEngine;
+    private final JpaTickWriter jpaTickWriter;
+    private final PlatformTransactionManager transactionManager;
+    private ScheduledExecutorService executor;
+
+    @Value("${app.simulation.mandatory-reconcile-interval-ms:3600000}")
+    private long intervalMs;
+
+    @PostConstruct
+    void start() {
+        if (intervalMs <= 0) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mandatory-spend-reconciler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::reconcileAll, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    void reconcileAll() {
+        int drifted = 0;
+        for (BankState state : bankStateRepository.findAll()) {
+            try {
+                drifted += reconcile(state.getUser().getId(), state.getSlotId());
+            } catch (OptimisticLockingFailureException ex) {
+                log.debug("Mandatory spend check lost a race for user {} slot {}", state.getUser().getId(),
+                        state.getSlotId());
+            } catch (RuntimeException ex) {
+                log.warn("Mandatory spend check failed for user {} slot {}", state.getUser().getId(),
+                        state.getSlotId(), ex);
+            }
+        }
+        if (drifted > 0) {
+            log.warn("Corrected the mandatory spend of {} client(s)", drifted);
+        }
+    }
+
+    /**
+     * Recomputes the slot's mandatory spend from its rows and fixes every cache that drifted. Returns how many
+     * clients were corrected.
+     */
+    int reconcile(Long userId, int slotId) {
+        Optional<Integer> inMemory = inMemorySlotEngine.updateResident(userId, slotId, this::correct);
+        if (inMemory.isPresent()) {
+            return inMemory.get();
+        }
+        // Should the engine load the slot meanwhile, the corrected clients' new version fails its next flush and
+        // it reloads them.
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        Integer corrected = template.execute(status -> bankStateRepository.findBySlotIdAndUserId(slotId, userId)
+                .map(state -> correct(tickProcessor.load(state), jpaTickWriter))
+                .orElse(0));
+        return corrected == null ? 0 : corrected;
+    }
+
+    private int correct(SlotWorkingSet set, TickWriter writer) {
+        int corrected = 0;
+        for (Client client : set.clients()) {
+            BigDecimal expected = mandatorySpendService.compute(client, set.loansOf(client),
+                    set.mortgagesOf(client), set.livingOf(client));
+            if (!Objects.equals(client.getMonthlyMandatoryCache(), expected)) {
+                log.debug("Client {} mandatory spend drifted: cached {}, expected {}", client.getId(),
+                        client.getMonthlyMandatoryCache(), expected);
+                client.setMonthlyMandatoryCache(expected);
+                writer.client(client);
+                corrected++;
+            }
+        }
+        return corrected;
+    }
+}
@@ -12,6 +12,7 @@ import com.alkicorp.bankingsim.repository.LoanRepository;
 import com.alkicorp.bankingsim.repository.MortgageRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -32,17 +33,33 @@ public class MandatorySpendService {
      */
     @Transactional
     public BigDecimal recalcAndPersist(Client client) {
-        BigDecimal total = BigDecimal.ZERO;
+        ClientLiving living = clientLivingRepository
+            .findByClientIdAndSlotId(client.getId(), client.getSlotId())
+            .orElse(null);
+        BigDecimal total = compute(client, loanRepository.findByClientId(client.getId()),
+                mortgageRepository.findByClientId(client.getId()), living);
+        if (!Objects.equals(client.getMonthlyMandatoryCache(), total)) {
+            client.setMonthlyMandatoryCache(total);
+            clientRepository.save(client);
+        }
+        return total;
+    }
+
+    /**
+     * Mandatory monthly spend from obligations the caller already holds; {@code living} may be null.
+     */
+    public BigDecimal compute(Client client, List<Loan> loans, List<Mortgage> mortgages, ClientLiving living) {
+        Money total = Money.ZERO;
 
         // Approved personal loans
-        for (Loan loan : loanRepository.findByClientId(client.getId())) {
+        for (Loan loan : loans) {
             if (loan.getStatus() == LoanStatus.APPROVED && loan.getMonthlyPayment() != null) {
-                total = total.add(loan.getMonthlyPayment());
+                total = total.plus(Money.of(loan.getMonthlyPayment(), RoundingMode.HALF_UP));
             }
         }
 
         // Accepted mortgages
-        for (Mortgage mortgage : mortgageRepository.findByClientId(client.getId())) {
+        for (Mortgage mortgage : mortgages) {
             if (mortgage.getStatus() == MortgageStatus.ACCEPTED
                     && mortgage.getMonthlyPayment() != null
                     && mortgage.getProduct() != null
@@ -54,23 +71,15 @@ public class MandatorySpendService {
                         && totalPaid.compareTo(mortgage.getPropertyPrice()) >= 0) {
                     continue;
                 }
-                total = total.add(mortgage.getMonthlyPayment());
+                total = total.plus(Money.of(mortgage.getMonthlyPayment(), RoundingMode.HALF_UP));
             }
         }
 
         // Current rent (if renting)
-        ClientLiving living = clientLivingRepository
-            .findByClientIdAndSlotId(client.getId(), client.getSlotId())
-            .orElse(null);
         if (living != null && living.getMonthlyRentCache() != null) {
-            total = total.add(living.getMonthlyRentCache());
+            total = total.plus(Money.of(living.getMonthlyRentCache(), RoundingMode.HALF_UP));
         }
 
-        total = total.setScale(2, RoundingMode.HALF_UP);
-        if (!Objects.equals(client.getMonthlyMandatoryCache(), total)) {
-            client.setMonthlyMandatoryCache(total);
-            clientRepository.save(client);
-        }
-        return total;
+        return total.toBigDecimal();
     }
 }
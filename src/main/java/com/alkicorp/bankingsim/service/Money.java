@@ -0,0 +1,145 @@
+package com.alkicorp.bankingsim.service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money as whole cents, for the simulation's hot loops. Entities and DTOs keep
+ * {@link BigDecimal}; amounts are converted with {@link #of}/{@link #toBigDecimal} at that boundary. Every
+ * operation checks for overflow and throws {@link ArithmeticException}, and every operation that can leave the
+ * cent grid takes an explicit {@link RoundingMode}.
+ */
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    public static Money ofCents(long cents) {
+        return cents == 0L ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Converts an amount that must already be whole cents; {@code null} counts as zero.
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Converts an amount, rounding it to whole cents; {@code null} counts as zero.
+     */
+    public static Money of(BigDecimal amount, RoundingMode rounding) {
+        if (amount == null) {
+            return ZERO;
+        }
+        return ofCents(amount.setScale(2, rounding).unscaledValue().longValueExact());
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    public Money plus(Money other) {
+        return other.cents == 0L ? this : ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return other.cents == 0L ? this : ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public Money negate() {
+        return ofCents(Math.negateExact(cents));
+    }
+
+    /**
+     * {@code this * numerator / denominator}, computed exactly and then rounded to whole cents.
+     */
+    public Money times(long numerator, long denominator, RoundingMode rounding) {
+        if (denominator == 0L) {
+            throw new ArithmeticException("Division by zero");
+        }
+        long product = Math.multiplyExact(cents, numerator);
+        if (denominator < 0L) {
+            product = Math.negateExact(product);
+            denominator = Math.negateExact(denominator);
+        }
+        return ofCents(divide(product, denominator, rounding));
+    }
+
+    /**
+     * {@code this * factor} rounded to whole cents, for factors that only exist as doubles (random shares).
+     */
+    public Money times(double factor, RoundingMode rounding) {
+        double exact = cents * factor;
+        if (!Double.isFinite(exact) || Math.abs(exact) >= 0x1p63) {
+            throw new ArithmeticException("Money overflow");
+        }
+        return ofCents(round(exact, rounding));
+    }
+
+    public Money min(Money other) {
+        return cents <= other.cents ? this : other;
+    }
+
+    public Money max(Money other) {
+        return cents >= other.cents ? this : other;
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public boolean isPositive() {
+        return cents > 0L;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static long divide(long dividend, long divisor, RoundingMode rounding) {
+        long quotient = Math.floorDiv(dividend, divisor);
+        long remainder = Math.floorMod(dividend, divisor);
+        if (remainder == 0L) {
+            return quotient;
+        }
+        boolean negative = dividend < 0L;
+        long rest = divisor - remainder;
+        return switch (rounding) {
+            case FLOOR -> quotient;
+            case CEILING -> quotient + 1;
+            case DOWN -> negative ? quotient + 1 : quotient;
+            case UP -> negative ? quotient : quotient + 1;
+            case HALF_UP -> remainder > rest || (remainder == rest && !negative) ? quotient + 1 : quotient;
+            case HALF_DOWN -> remainder > rest || (remainder == rest && negative) ? quotient + 1 : quotient;
+            case HALF_EVEN -> remainder > rest || (remainder == rest && (quotient & 1L) != 0L)
+                    ? quotient + 1
+                    : quotient;
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary");
+        };
+    }
+
+    private static long round(double value, RoundingMode rounding) {
+        double rounded = switch (rounding) {
+            case FLOOR -> Math.floor(value);
+            case CEILING -> Math.ceil(value);
+            case DOWN -> value < 0 ? Math.ceil(value) : Math.floor(value);
+            case UP -> value < 0 ? Math.floor(value) : Math.ceil(value);
+            case HALF_UP -> value < 0 ? -Math.floor(-value + 0.5) : Math.floor(value + 0.5);
+            case HALF_DOWN -> value < 0 ? -Math.ceil(-value - 0.5) : Math.ceil(value - 0.5);
+            case HALF_EVEN -> Math.rint(value);
+            case UNNECESSARY -> {
+                if (value != Math.rint(value)) {
+                    throw new ArithmeticException("Rounding necessary");
+                }
+                yield value;
+            }
+        };
+        return (long) rounded;
+    }
+}
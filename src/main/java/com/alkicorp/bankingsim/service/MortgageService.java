@@ -41,6 +41,7 @@ public class MortgageService {
     private final TransactionRepository transactionRepository;
     private final CurrentUserService currentUserService;
     private final SimulationService simulationService;
+    private final MandatorySpendService mandatorySpendService;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional
@@ -124,7 +125,8 @@ public class MortgageService {
             }
 
             List<Transaction> payments = transactionRepository
-                    .findByClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(
+                    .findByBankStateIdAndClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(
+                            clientMortgages.get(0).getClient().getBankState().getId(),
                             clientId,
                             List.of(TransactionType.MORTGAGE_PAYMENT));
 
@@ -176,6 +178,8 @@ public class MortgageService {
                 mortgage.setUpdatedAt(Instant.now(clock));
                 mortgageRepository.save(mortgage);
             }
+            // A recomputed total can pay a mortgage off (or reopen it).
+            mandatorySpendService.recalcAndPersist(clientMortgages.get(0).getClient());
         }
         return mortgageRepository.findBySlotId(slotId);
     }
@@ -253,7 +257,11 @@ public class MortgageService {
 
         mortgage.setStatus(status);
         mortgage.setUpdatedAt(Instant.now(clock));
-        return mortgageRepository.save(mortgage);
+        Mortgage saved = mortgageRepository.save(mortgage);
+        if (status == MortgageStatus.ACCEPTED) {
+            mandatorySpendService.recalcAndPersist(saved.getClient());
+        }
+        return saved;
     }
 
     private void validateTerm(Integer termYears) {
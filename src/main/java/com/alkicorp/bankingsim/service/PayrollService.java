@@ -36,12 +36,32 @@ public class PayrollService {
             }
             // Use a while loop to handle skipped days or fast-forwarding, or granular ticks
             while (cj.getNextPayday() != null && gameDay >= cj.getNextPayday()) {
-                payClient(cj, cj.getNextPayday());
+                Transaction tx = payClient(cj, cj.getNextPayday());
+                clientRepository.save(cj.getClient());
+                transactionRepository.save(tx);
+                clientJobRepository.save(cj);
             }
         }
     }
 
-    private void payClient(ClientJob cj, double payday) {
+    /**
+     * Same as {@link #runPayroll(int, Long, double)} for jobs the caller already holds.
+     */
+    public void runPayroll(List<ClientJob> jobs, double gameDay, TickWriter writer) {
+        for (ClientJob cj : jobs) {
+            if (!Boolean.TRUE.equals(cj.getPrimary())) {
+                continue;
+            }
+            while (cj.getNextPayday() != null && gameDay >= cj.getNextPayday()) {
+                Transaction tx = payClient(cj, cj.getNextPayday());
+                writer.client(cj.getClient());
+                writer.transaction(tx);
+                writer.job(cj);
+            }
+        }
+    }
+
+    private Transaction payClient(ClientJob cj, double payday) {
         Client client = cj.getClient();
 
         // One game day equals one month. Every month, the client gets 1/12 of their
@@ -53,7 +73,6 @@ public class PayrollService {
                 client.getId(), cj.getJob().getTitle(), payday, pay);
 
         client.setCheckingBalance(client.getCheckingBalance().add(pay));
-        clientRepository.save(client);
 
         Transaction tx = new Transaction();
         tx.setClient(client);
@@ -61,10 +80,9 @@ public class PayrollService {
         tx.setAmount(pay);
         tx.setGameDay((int) Math.floor(payday));
         tx.setCreatedAt(Instant.now(clock));
-        transactionRepository.save(tx);
 
         // Advance by exactly 1.0 game day (one in-game month)
         cj.setNextPayday(payday + 1.0);
-        clientJobRepository.save(cj);
+        return tx;
     }
 }
@@ -39,6 +39,7 @@ public class ProductService {
     private final MortgageRepository mortgageRepository;
     private final SimulationService simulationService;
     private final CurrentUserService currentUserService;
+    private final MandatorySpendService mandatorySpendService;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional
@@ -74,7 +75,12 @@ public class ProductService {
         if (statusOverride != null && !statusOverride.isBlank()) {
             product.setStatus(parseStatus(statusOverride));
         }
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        if (saved.getOwnerClient() != null) {
+            // Only an owned product's mortgage counts toward its owner's mandatory spend.
+            mandatorySpendService.recalcAndPersist(saved.getOwnerClient());
+        }
+        return saved;
     }
 
     @Transactional
@@ -171,7 +177,9 @@ public class ProductService {
         tx.setAmount(salePrice.setScale(2, RoundingMode.HALF_UP));
         tx.setGameDay((int) Math.floor(state.getGameDay()));
         tx.setCreatedAt(Instant.now(clock));
-        return transactionRepository.save(tx);
+        Transaction saved = transactionRepository.save(tx);
+        mandatorySpendService.recalcAndPersist(client);
+        return saved;
     }
 
     private void validateDraft(Product draft) {
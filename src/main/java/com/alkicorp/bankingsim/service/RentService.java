@@ -5,7 +5,6 @@ import com.alkicorp.bankingsim.model.ClientLiving;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientLivingRepository;
-import com.alkicorp.bankingsim.repository.TransactionRepository;
 import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
@@ -19,12 +18,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class RentService {
 
     private final ClientLivingRepository clientLivingRepository;
-    private final TransactionRepository transactionRepository;
+    private final JpaTickWriter jpaTickWriter;
     private final Clock clock = Clock.systemUTC();
 
     @Transactional
     public void chargeRent(int slotId, Long userId, double gameDay) {
-        List<ClientLiving> livings = clientLivingRepository.findBySlotIdAndClientBankStateUserId(slotId, userId);
+        chargeRent(clientLivingRepository.findBySlotIdAndClientBankStateUserId(slotId, userId), gameDay,
+                jpaTickWriter);
+    }
+
+    /**
+     * Charges rent that is due on {@code gameDay} for the given livings.
+     */
+    public void chargeRent(List<ClientLiving> livings, double gameDay, TickWriter writer) {
         int day = (int) Math.floor(gameDay);
         for (ClientLiving living : livings) {
             if (living.getMonthlyRentCache() == null || living.getMonthlyRentCache().compareTo(BigDecimal.ZERO) <= 0) {
@@ -33,27 +39,28 @@ public class RentService {
             Integer nextRentDay = living.getNextRentDay();
             if (nextRentDay == null) {
                 living.setNextRentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
-                clientLivingRepository.save(living);
+                writer.living(living);
                 continue;
             }
             if (day < nextRentDay) {
                 continue;
             }
-            debitRent(living.getClient(), living.getMonthlyRentCache(), gameDay);
+            debitRent(living.getClient(), living.getMonthlyRentCache(), gameDay, writer);
             living.setNextRentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
-            clientLivingRepository.save(living);
+            writer.living(living);
         }
     }
 
-    private void debitRent(Client client, BigDecimal amount, double gameDay) {
+    private void debitRent(Client client, BigDecimal amount, double gameDay, TickWriter writer) {
         BigDecimal payAmount = client.getCheckingBalance().min(amount);
         client.setCheckingBalance(client.getCheckingBalance().subtract(payAmount));
+        writer.client(client);
         Transaction tx = new Transaction();
         tx.setClient(client);
         tx.setType(payAmount.compareTo(amount) >= 0 ? TransactionType.RENT_PAYMENT : TransactionType.PAYMENT_FAILED);
         tx.setAmount(payAmount);
         tx.setGameDay((int) Math.floor(gameDay));
         tx.setCreatedAt(Instant.now(clock));
-        transactionRepository.save(tx);
+        writer.transaction(tx);
     }
 }
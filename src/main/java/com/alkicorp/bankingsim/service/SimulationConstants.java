@@ -12,6 +12,7 @@ public final class SimulationConstants {
     public static final int REPAYMENT_PERIOD_DAYS = 1;
     public static final int SPENDING_EVENTS_PER_MONTH = 4;
     public static final long REAL_MS_PER_GAME_DAY = 60_000L; // 1 minute real time = 1 game day
+    public static final int TICKS_PER_GAME_DAY = 12; // background ticker runs every 5 seconds
 
     private SimulationConstants() {
     }
@@ -0,0 +1,194 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Per-HTTP-request memo of the slots this request has already advanced, so that a service chain (for example
+ * {@code withdraw -> getClient}) advances a slot at most once and shares its {@link BankState} and client
+ * list. Loaded entities are only handed out again inside the transaction that loaded them; a later
+ * transaction in the same request gets a plain reload without another catch-up. Outside a web request (the
+ * ticker, tests) nothing is memoized.
+ */
+@Component
+@Slf4j
+public class SimulationRequestContext {
+
+    private static final String ATTRIBUTE = SimulationRequestContext.class.getName();
+
+    /**
+     * The current request's memo for the slot, or null outside a web request.
+     */
+    public SlotMemo slot(Long userId, int slotId) {
+        Frame frame = currentFrame();
+        return frame == null ? null : frame.slots.computeIfAbsent(new ActiveSlotRegistry.SlotKey(userId, slotId),
+                key -> new SlotMemo(frame.counters));
+    }
+
+    /**
+     * The slot's clients, loaded at most once per transaction within the current request.
+     */
+    public List<Client> clients(Long userId, int slotId, Supplier<List<Client>> loader) {
+        SlotMemo memo = slot(userId, slotId);
+        if (memo == null) {
+            return loader.get();
+        }
+        List<Client> clients = memo.clients;
+        if (clients == null) {
+            memo.counters.clientLoads++;
+            clients = loader.get();
+            memo.clients = clients;
+            memo.expireWithTransaction();
+        }
+        return clients;
+    }
+
+    /**
+     * Drops the memoized client list after a client was added or removed.
+     */
+    public void clientsChanged(Long userId, int slotId) {
+        SlotMemo memo = slot(userId, slotId);
+        if (memo != null) {
+            memo.clients = null;
+        }
+    }
+
+    /**
+     * Forgets everything about the slot, so it is advanced again; used when the slot is reset.
+     */
+    public void invalidate(Long userId, int slotId) {
+        Frame frame = currentFrame();
+        if (frame != null) {
+            frame.slots.remove(new ActiveSlotRegistry.SlotKey(userId, slotId));
+        }
+    }
+
+    /**
+     * The current request's counters, or null outside a web request.
+     */
+    public Counters counters() {
+        Frame frame = currentFrame();
+        return frame == null ? null : frame.counters;
+    }
+
+    private Frame currentFrame() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Frame frame = (Frame) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (frame == null) {
+            frame = new Frame();
+            attributes.setAttribute(ATTRIBUTE, frame, RequestAttributes.SCOPE_REQUEST);
+            Counters counters = frame.counters;
+            attributes.registerDestructionCallback(ATTRIBUTE, () -> log.debug(
+                    "Request advanced {} slot(s), reused {} memoized state(s), reloaded {}, loaded {} client list(s)",
+                    counters.advances, counters.hits, counters.reloads, counters.clientLoads),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+        return frame;
+    }
+
+    private static final class Frame {
+        private final Map<ActiveSlotRegistry.SlotKey, SlotMemo> slots = new HashMap<>();
+        private final Counters counters = new Counters();
+    }
+
+    /**
+     * What the current request knows about one slot.
+     */
+    public static final class SlotMemo {
+
+        private final Counters counters;
+        private boolean advanced;
+        private BankState state;
+        private List<Client> clients;
+        private boolean expiryRegistered;
+
+        private SlotMemo(Counters counters) {
+            this.counters = counters;
+        }
+
+        public boolean isAdvanced() {
+            return advanced;
+        }
+
+        /**
+         * The state loaded in the current transaction, or null if it has to be reloaded.
+         */
+        public BankState state() {
+            if (state != null) {
+                counters.hits++;
+            }
+            return state;
+        }
+
+        public void advanced(BankState state) {
+            counters.advances++;
+            remember(state);
+        }
+
+        /**
+         * Marks the slot advanced by a catch-up that committed before the request's transaction began.
+         */
+        public void advancedBeforeTransaction() {
+            counters.advances++;
+            advanced = true;
+        }
+
+        public void reloaded(BankState state) {
+            counters.reloads++;
+            remember(state);
+        }
+
+        private void remember(BankState state) {
+            advanced = true;
+            this.state = state;
+            expireWithTransaction();
+        }
+
+        private void expireWithTransaction() {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                // Nothing tells us when these entities detach, so only remember that the slot was advanced.
+                state = null;
+                clients = null;
+                return;
+            }
+            if (expiryRegistered) {
+                return;
+            }
+            expiryRegistered = true;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    state = null;
+                    clients = null;
+                    expiryRegistered = false;
+                }
+            });
+        }
+    }
+
+    /**
+     * How often the current request advanced or reused slot state.
+     */
+    @Getter
+    public static final class Counters {
+
+        private int advances;
+        private int hits;
+        private int reloads;
+        private int clientLoads;
+    }
+}
@@ -2,158 +2,72 @@ package com.alkicorp.bankingsim.service;
 
 import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.model.BankState;
-import com.alkicorp.bankingsim.model.Client;
-import com.alkicorp.bankingsim.model.InvestmentEvent;
-import com.alkicorp.bankingsim.model.Loan;
-import com.alkicorp.bankingsim.model.Mortgage;
-import com.alkicorp.bankingsim.model.Transaction;
-import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
-import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.BankStateRepository;
-import com.alkicorp.bankingsim.repository.ClientRepository;
-import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
-import com.alkicorp.bankingsim.repository.LoanRepository;
-import com.alkicorp.bankingsim.repository.MortgageRepository;
-import com.alkicorp.bankingsim.repository.TransactionRepository;
-import java.io.FileWriter;
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class SimulationService {
 
+    private static final int ADVANCE_ATTEMPTS = 3;
+    /** A century of game time; a fast-forward writes every replayed day in one transaction. */
+    private static final int MAX_FAST_FORWARD_DAYS = 1200;
     private static final BigDecimal STARTING_CASH = BigDecimal.valueOf(100_000).setScale(2, RoundingMode.HALF_UP);
 
     private final BankStateRepository bankStateRepository;
-    private final ClientRepository clientRepository;
-    private final TransactionRepository transactionRepository;
-    private final InvestmentEventRepository investmentEventRepository;
-    private final LoanRepository loanRepository;
-    private final MortgageRepository mortgageRepository;
     private final PayrollService payrollService;
-    private final RentService rentService;
-    private final SpendingService spendingService;
     private final BankruptcyService bankruptcyService;
+    private final TickProcessor tickProcessor;
+    private final JpaTickWriter jpaTickWriter;
+    private final ActiveSlotRegistry activeSlotRegistry;
+    private final InMemorySlotEngine inMemorySlotEngine;
+    private final SimulationRequestContext simulationRequestContext;
+    private final ActivitySeriesCache activitySeriesCache;
+    private final LedgerPartitions ledgerPartitions;
+    private final SlotPurgeService slotPurgeService;
+    private final PlatformTransactionManager transactionManager;
     private final Clock clock = Clock.systemUTC();
 
+    /** When set, every reset slot gets this spending seed, so profiling runs can be reproduced. */
+    @Value("${app.simulation.seed:#{null}}")
+    private Long fixedSeed;
+
     @Transactional
     public BankState resetSlot(User user, int slotId) {
-        // #region agent log
-        System.out.println("  → Resetting slot " + slotId + " (clearing existing data and preparing fresh state)");
-        try (FileWriter fw = new FileWriter(
-                "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                true)) {
-            fw.write(
-                    "{\"sessionId\":\"debug-session\",\"runId\":\"run1\",\"hypothesisId\":\"H4\",\"location\":\"SimulationService.resetSlot:40\",\"message\":\"resetSlot called - WILL DELETE SEED DATA\",\"data\":{\"slotId\":"
-                            + slotId + "},\"timestamp\":" + System.currentTimeMillis() + "}\n");
-        } catch (IOException e) {
-        }
-        // #endregion
-        List<Client> clients = clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId());
-        // #region agent log
-        try (FileWriter fw = new FileWriter(
-                "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                true)) {
-            fw.write(
-                    "{\"sessionId\":\"debug-session\",\"runId\":\"run1\",\"hypothesisId\":\"H4\",\"location\":\"SimulationService.resetSlot:47\",\"message\":\"Clients found before deletion\",\"data\":{\"slotId\":"
-                            + slotId + ",\"clientCount\":" + clients.size() + "},\"timestamp\":"
-                            + System.currentTimeMillis() + "}\n");
-        } catch (IOException e) {
-        }
-        // #endregion
-        if (!clients.isEmpty()) {
-            transactionRepository.deleteByClientIn(clients);
-        }
-        clientRepository.deleteBySlotIdAndBankStateUserId(slotId, user.getId());
-        investmentEventRepository.deleteBySlotIdAndUserId(slotId, user.getId());
-        // #region agent log
-        try (FileWriter fw = new FileWriter(
-                "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                true)) {
-            int afterDeleteCount = clientRepository.findBySlotIdAndBankStateUserId(slotId, user.getId()).size();
-            fw.write(
-                    "{\"sessionId\":\"debug-session\",\"runId\":\"run1\",\"hypothesisId\":\"H4\",\"location\":\"SimulationService.resetSlot:52\",\"message\":\"Clients after deletion\",\"data\":{\"slotId\":"
-                            + slotId + ",\"clientCount\":" + afterDeleteCount + "},\"timestamp\":"
-                            + System.currentTimeMillis() + "}\n");
-        } catch (IOException e) {
-        }
-        // #endregion
-
-        // #region agent log
-        System.out.println("  → Checking if slot " + slotId + " already exists in database...");
-        try (FileWriter fw = new FileWriter(
-                "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                true)) {
-            fw.write(
-                    "{\"sessionId\":\"debug-session\",\"runId\":\"post-fix\",\"hypothesisId\":\"H1,H4\",\"location\":\"SimulationService.resetSlot:51\",\"message\":\"Before findBySlotId\",\"data\":{\"slotId\":\""
-                            + slotId + "\"},\"timestamp\":" + System.currentTimeMillis() + "}\n");
-        } catch (IOException e) {
-        }
-        // #endregion
+        inMemorySlotEngine.release(user.getId(), slotId);
+        simulationRequestContext.invalidate(user.getId(), slotId);
+        activitySeriesCache.invalidate(user.getId(), slotId);
         Optional<BankState> existingStateOpt = bankStateRepository.findBySlotIdAndUserId(slotId, user.getId());
-        // #region agent log
-        if (existingStateOpt.isPresent()) {
-            System.out.println("  ✓ Found existing bank state for slot " + slotId + " (ID: "
-                    + existingStateOpt.get().getId() + ") - will update it");
-        } else {
-            System.out.println("  ✓ No existing bank state found for slot " + slotId + " - will create a new one");
-        }
-        try (FileWriter fw = new FileWriter(
-                "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                true)) {
-            fw.write(
-                    "{\"sessionId\":\"debug-session\",\"runId\":\"post-fix\",\"hypothesisId\":\"H1,H4\",\"location\":\"SimulationService.resetSlot:52\",\"message\":\"After findBySlotId\",\"data\":{\"slotId\":\""
-                            + slotId + "\",\"found\":" + existingStateOpt.isPresent() + ",\"existingId\":"
-                            + (existingStateOpt.isPresent() ? existingStateOpt.get().getId() : "null")
-                            + "},\"timestamp\":" + System.currentTimeMillis() + "}\n");
-        } catch (IOException e) {
-        }
-        // #endregion
-        BankState state = existingStateOpt.orElseGet(() -> {
-            // #region agent log
-            System.out.println("  → Creating new bank state object for slot " + slotId);
-            try (FileWriter fw = new FileWriter(
-                    "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                    true)) {
-                fw.write(
-                        "{\"sessionId\":\"debug-session\",\"runId\":\"post-fix\",\"hypothesisId\":\"H3\",\"location\":\"SimulationService.resetSlot:53\",\"message\":\"Creating new BankState\",\"data\":{\"slotId\":\""
-                                + slotId + "\"},\"timestamp\":" + System.currentTimeMillis() + "}\n");
-            } catch (IOException e) {
-            }
-            // #endregion
-            return new BankState();
-        });
-        // #region agent log
-        if (state.getId() == null) {
-            System.out.println("  → Preparing to INSERT new bank state (no ID yet) for slot " + slotId);
-        } else {
-            System.out.println(
-                    "  → Preparing to UPDATE existing bank state (ID: " + state.getId() + ") for slot " + slotId);
-        }
-        try (FileWriter fw = new FileWriter(
-                "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                true)) {
-            fw.write(
-                    "{\"sessionId\":\"debug-session\",\"runId\":\"post-fix\",\"hypothesisId\":\"H3\",\"location\":\"SimulationService.resetSlot:54\",\"message\":\"State before setSlotId\",\"data\":{\"stateId\":"
-                            + (state.getId() != null ? state.getId() : "null") + ",\"slotId\":\"" + slotId
-                            + "\",\"isNew\":\"" + (state.getId() == null) + "\"},\"timestamp\":"
-                            + System.currentTimeMillis() + "}\n");
-        } catch (IOException e) {
-        }
-        // #endregion
+        // Bulk deletes in foreign-key order, ledger partition truncated; the bank state itself is reused.
+        SlotPurgeService.PurgeReport purged = slotPurgeService.purge(user.getId(), slotId,
+                existingStateOpt.map(BankState::getId).orElse(null));
+        log.info("Reset slot {} of user {}; purge took {} ms: {}", slotId, user.getId(), purged.elapsedMs(),
+                purged.rows());
+        BankState state = existingStateOpt.orElseGet(BankState::new);
         state.setSlotId(slotId);
         state.setUser(user);
         state.setLiquidCash(STARTING_CASH);
@@ -164,40 +78,110 @@ public class SimulationService {
         state.setLastUpdateTimestamp(Instant.now(clock));
         state.setNextDividendDay(SimulationConstants.DAYS_PER_YEAR - 1);
         state.setNextGrowthDay(SimulationConstants.DAYS_PER_YEAR - 1);
-        // #region agent log
-        System.out.println("  → Saving bank state to database for slot " + slotId
-                + (state.getId() == null ? " (new record)" : " (updating existing record ID: " + state.getId() + ")"));
-        try (FileWriter fw = new FileWriter(
-                "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                true)) {
-            fw.write(
-                    "{\"sessionId\":\"debug-session\",\"runId\":\"post-fix\",\"hypothesisId\":\"H3\",\"location\":\"SimulationService.resetSlot:62\",\"message\":\"Before save\",\"data\":{\"stateId\":"
-                            + (state.getId() != null ? state.getId() : "null") + ",\"slotId\":\"" + slotId
-                            + "\",\"willInsert\":\"" + (state.getId() == null) + "\"},\"timestamp\":"
-                            + System.currentTimeMillis() + "}\n");
-        } catch (IOException e) {
-        }
-        // #endregion
+        state.setRngSeed(fixedSeed != null ? fixedSeed : ThreadLocalRandom.current().nextLong());
+        state.setLedgerArchivedBeforeDay(null);
         BankState saved = bankStateRepository.save(state);
-        // #region agent log
-        System.out.println("  ✓ Successfully saved bank state (ID: " + saved.getId() + ") for slot " + slotId);
-        try (FileWriter fw = new FileWriter(
-                "/Users/alkicorp/Documents/ALKIcorp/B5_CLASSES/TRANSWEB_420-951/project transweb/alkicorp_banking_sim/banking-sim-api/.cursor/debug.log",
-                true)) {
-            fw.write(
-                    "{\"sessionId\":\"debug-session\",\"runId\":\"post-fix\",\"hypothesisId\":\"H1,H2,H3\",\"location\":\"SimulationService.resetSlot:63\",\"message\":\"After save success\",\"data\":{\"savedId\":"
-                            + saved.getId() + ",\"slotId\":\"" + slotId + "\"},\"timestamp\":"
-                            + System.currentTimeMillis() + "}\n");
-        } catch (IOException e) {
-        }
-        // #endregion
+        ledgerPartitions.ensure(saved.getId());
         return saved;
     }
 
+    /**
+     * Returns the slot's state as of now. Once {@link SimulationTicker} owns the slot this is a plain lookup of
+     * the state it already materialized; otherwise (ticker disabled, first touch, or the slot went idle) the
+     * catch-up runs here and the slot is handed to the ticker. With the in-memory engine, read-only callers see
+     * the last flush and writers first make the engine flush and let go of the slot.
+     * <p>
+     * Concurrent advances of one slot are resolved by the {@code @Version} columns, so no day is applied twice.
+     * Web requests have normally caught the slot up already (see {@link #advanceBeforeTransaction}), where the
+     * loser is retried against the winner's state; a catch-up inside the caller's transaction fails with it.
+     */
     @Transactional
     public Optional<BankState> getAndAdvanceState(User user, int slotId) {
-        return bankStateRepository.findBySlotIdAndUserId(slotId, user.getId())
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        SimulationRequestContext.SlotMemo memo = simulationRequestContext.slot(user.getId(), slotId);
+        if (memo != null && memo.isAdvanced()) {
+            if (!readOnly) {
+                inMemorySlotEngine.release(user.getId(), slotId);
+            }
+            BankState memoized = memo.state();
+            if (memoized != null) {
+                return Optional.of(memoized);
+            }
+            Optional<BankState> reloaded = bankStateRepository.findBySlotIdAndUserId(slotId, user.getId());
+            reloaded.ifPresent(memo::reloaded);
+            return reloaded;
+        }
+        Optional<BankState> state = advanceForRequest(user, slotId, readOnly);
+        if (memo != null) {
+            state.ifPresent(memo::advanced);
+        }
+        return state;
+    }
+
+    /**
+     * Catches the slot up in a transaction of its own before the request opens its transaction, so the two
+     * never hold a pooled connection each at the same time; {@link #getAndAdvanceState} then only reloads the
+     * committed state. Does nothing outside a web request, or when a transaction is already running and the
+     * catch-up has to happen inside it.
+     */
+    public void advanceBeforeTransaction(User user, int slotId) {
+        SimulationRequestContext.SlotMemo memo = simulationRequestContext.slot(user.getId(), slotId);
+        if (memo == null || memo.isAdvanced() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return;
+        }
+        if (!activeSlotRegistry.touch(user.getId(), slotId)) {
+            inMemorySlotEngine.release(user.getId(), slotId);
+            advanceInNewTransaction(user.getId(), slotId);
+        }
+        memo.advancedBeforeTransaction();
+    }
+
+    private Optional<BankState> advanceForRequest(User user, int slotId, boolean readOnly) {
+        boolean owned = activeSlotRegistry.touch(user.getId(), slotId);
+        if (!readOnly || !owned) {
+            // Writers (and inline catch-ups) must start from the in-memory engine's latest days, not the last flush.
+            inMemorySlotEngine.release(user.getId(), slotId);
+        }
+        if (owned) {
+            return bankStateRepository.findBySlotIdAndUserId(slotId, user.getId());
+        }
+        if (readOnly) {
+            // A read-only caller cannot persist the catch-up, so it gets its own transaction.
+            advanceInNewTransaction(user.getId(), slotId);
+            return bankStateRepository.findBySlotIdAndUserId(slotId, user.getId());
+        }
+        return advanceSlot(user.getId(), slotId);
+    }
+
+    /**
+     * Runs {@link #advanceSlot} in its own transaction. A conflicting advance (another request or the ticker
+     * committed the slot first) fails on the version check, or on the spending index when its inserts are
+     * flushed first, and is retried from the committed state.
+     */
+    private void advanceInNewTransaction(Long userId, int slotId) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                template.executeWithoutResult(status -> advanceSlot(userId, slotId));
+                return;
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException ex) {
+                if (attempt >= ADVANCE_ATTEMPTS) {
+                    throw ex;
+                }
+            }
+        }
+    }
+
+    /**
+     * Advances one slot to now; used by the ticker and by inline catch-ups.
+     */
+    @Transactional
+    public Optional<BankState> advanceSlot(Long userId, int slotId) {
+        Optional<BankState> advanced = bankStateRepository.findBySlotIdAndUserId(slotId, userId)
                 .map(this::advanceTime);
+        advanced.ifPresent(state -> activeSlotRegistry.registerAfterCommit(userId, slotId));
+        return advanced;
     }
 
     @Transactional
@@ -209,6 +193,56 @@ public class SimulationService {
         return results;
     }
 
+    /**
+     * Admin fast-forward for scenario setup and engine benchmarks: catches the slot up to now, then replays
+     * {@code days} more game days at once through the regular catch-up steps, reporting the time spent per
+     * stage and the rows written. The slot's clock stays {@code days} ahead; real time keeps advancing it from
+     * there.
+     */
+    @Transactional
+    public Optional<FastForwardReport> fastForward(User user, int slotId, int days) {
+        if (days < 1 || days > MAX_FAST_FORWARD_DAYS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Days must be between 1 and " + MAX_FAST_FORWARD_DAYS + ".");
+        }
+        inMemorySlotEngine.release(user.getId(), slotId);
+        simulationRequestContext.invalidate(user.getId(), slotId);
+        return bankStateRepository.findBySlotIdAndUserId(slotId, user.getId()).map(state -> {
+            advanceTime(state);
+            Map<String, Double> stageMs = new LinkedHashMap<>();
+            CountingTickWriter writer = new CountingTickWriter(jpaTickWriter);
+            double fromDay = state.getGameDay();
+            double toDay = fromDay + days;
+            int firstDay = (int) Math.floor(fromDay) + 1;
+            int lastDay = (int) Math.floor(toDay);
+            long started = System.nanoTime();
+            long mark = started;
+
+            SlotWorkingSet set = tickProcessor.load(state);
+            mark = stage(stageMs, "load", mark);
+            state.setGameDay(toDay);
+            tickProcessor.replayDays(set, firstDay, lastDay, writer);
+            mark = stage(stageMs, "replay", mark);
+            payrollService.runPayroll(set.jobs(), toDay, writer);
+            mark = stage(stageMs, "payroll", mark);
+            bankruptcyService.checkDischarge(slotId, toDay);
+            mark = stage(stageMs, "discharge", mark);
+            bankStateRepository.saveAndFlush(state);
+            stage(stageMs, "flush", mark);
+
+            activeSlotRegistry.registerAfterCommit(user.getId(), slotId);
+            double elapsedMs = (System.nanoTime() - started) / 1_000_000d;
+            return new FastForwardReport(state, days, fromDay, toDay, elapsedMs,
+                    elapsedMs > 0 ? days / (elapsedMs / 1000d) : 0d, writer.inserted(), writer.updated(), stageMs);
+        });
+    }
+
+    private static long stage(Map<String, Double> stageMs, String name, long since) {
+        long now = System.nanoTime();
+        stageMs.put(name, (now - since) / 1_000_000d);
+        return now;
+    }
+
     private BankState advanceTime(BankState state) {
         Instant now = Instant.now(clock);
         Instant last = Optional.ofNullable(state.getLastUpdateTimestamp()).orElse(now);
@@ -224,27 +258,7 @@ public class SimulationService {
         state.setLastUpdateTimestamp(now);
 
         if (currentWholeDay > previousWholeDay) {
-            List<Client> clients = Objects.requireNonNull(
-                    Optional.ofNullable(
-                            clientRepository.findBySlotIdAndBankStateUserId(state.getSlotId(), state.getUser().getId()))
-                            .orElse(Collections.emptyList()),
-                    "Clients list cannot be null");
-            for (int day = previousWholeDay + 1; day <= currentWholeDay; day++) {
-                processMonthlyLiquidCashGrowth(state);
-                if ((day + 1) % SimulationConstants.DAYS_PER_YEAR == 0) {
-                    processSp500Growth(state, day);
-                    processSp500Dividend(state, day);
-                }
-                for (Client client : clients) {
-                    client.setDailyWithdrawn(BigDecimal.ZERO);
-                }
-                rentService.chargeRent(state.getSlotId(), state.getUser().getId(), day);
-                processLoanRepayments(state, day);
-                processMortgageRepayments(state, day);
-                final int dayValue = day; // capture loop value for lambda use
-                clients.forEach(c -> spendingService.generateSpending(state.getSlotId(), c.getId(), dayValue));
-                bankruptcyService.checkDischarge(state.getSlotId(), newDayValue);
-            }
+            catchUp(state, previousWholeDay + 1, currentWholeDay, newDayValue);
         }
         // Run payroll with the fractional clock to support more granular triggers
         // and catch up if time was skipped.
@@ -253,164 +267,19 @@ public class SimulationService {
         return bankStateRepository.save(state);
     }
 
-    private void processMonthlyLiquidCashGrowth(BankState state) {
-        BigDecimal currentCash = state.getLiquidCash();
-        if (currentCash == null || currentCash.compareTo(BigDecimal.ZERO) <= 0) {
-            return;
-        }
-        BigDecimal growthAmount = currentCash.multiply(SimulationConstants.LIQUID_CASH_MONTHLY_GROWTH)
-                .setScale(2, RoundingMode.HALF_UP);
-        state.setLiquidCash(currentCash.add(growthAmount));
-    }
-
-    private void processSp500Growth(BankState state, int day) {
-        BigDecimal invested = state.getInvestedSp500();
-        if (invested.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal growthAmount = invested.multiply(SimulationConstants.SP500_ANNUAL_GROWTH)
-                    .setScale(2, RoundingMode.HALF_UP);
-            state.setInvestedSp500(invested.add(growthAmount));
-            recordInvestmentEvent(state.getSlotId(), state.getUser(), InvestmentEventType.GROWTH, growthAmount, day);
-        }
-        state.setNextGrowthDay(day + SimulationConstants.DAYS_PER_YEAR);
-    }
-
-    private void processSp500Dividend(BankState state, int day) {
-        BigDecimal invested = state.getInvestedSp500();
-        if (invested.compareTo(BigDecimal.ZERO) > 0) {
-            BigDecimal dividendAmount = invested.multiply(SimulationConstants.SP500_ANNUAL_DIVIDEND)
-                    .setScale(2, RoundingMode.HALF_UP);
-            state.setLiquidCash(state.getLiquidCash().add(dividendAmount));
-            recordInvestmentEvent(state.getSlotId(), state.getUser(), InvestmentEventType.DIVIDEND, dividendAmount,
-                    day);
-        }
-        state.setNextDividendDay(day + SimulationConstants.DAYS_PER_YEAR);
-    }
-
-    private void processLoanRepayments(BankState state, int day) {
-        List<Loan> loans = loanRepository.findBySlotIdAndUserId(state.getSlotId(), state.getUser().getId());
-        for (Loan loan : loans) {
-            if (loan.getNextPaymentDay() == null || loan.getMonthlyPayment() == null) {
-                continue;
-            }
-            if (loan.getStatus() != com.alkicorp.bankingsim.model.enums.LoanStatus.APPROVED) {
-                continue;
-            }
-            if (day < loan.getNextPaymentDay()) {
-                continue;
-            }
-            Client client = loan.getClient();
-            BigDecimal amountDue = loan.getMonthlyPayment();
-            BigDecimal payAmount = client.getCheckingBalance().min(amountDue);
-            Instant now = Instant.now(clock);
-            if (payAmount.compareTo(BigDecimal.ZERO) > 0) {
-                client.setCheckingBalance(client.getCheckingBalance().subtract(payAmount));
-                Transaction tx = new Transaction();
-                tx.setClient(client);
-                tx.setType(TransactionType.PERSONAL_LOAN_PAYMENT);
-                tx.setAmount(payAmount.setScale(2, RoundingMode.HALF_UP));
-                tx.setGameDay(day);
-                tx.setCreatedAt(now);
-                transactionRepository.save(tx);
-                state.setLiquidCash(state.getLiquidCash().add(payAmount));
-                loan.setLastPaymentStatus(payAmount.compareTo(amountDue) >= 0 ? "PAID" : "PARTIAL");
-                if (payAmount.compareTo(amountDue) < 0) {
-                    loan.setMissedPayments(loan.getMissedPayments() + 1);
-                }
-            } else {
-                loan.setLastPaymentStatus("MISSED");
-                loan.setMissedPayments(loan.getMissedPayments() + 1);
-            }
-            loan.setNextPaymentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
-            loan.setUpdatedAt(now);
-            loanRepository.save(loan);
-            clientRepository.save(client);
-        }
-    }
-
-    private void processMortgageRepayments(BankState state, int day) {
-        List<Mortgage> mortgages = mortgageRepository.findBySlotIdAndUserId(state.getSlotId(), state.getUser().getId());
-        mortgages.sort(java.util.Comparator
-                .comparing(Mortgage::getUpdatedAt, java.util.Comparator.nullsLast(java.util.Comparator.naturalOrder()))
-                .reversed());
-        java.util.Set<Long> paidProductIds = new java.util.HashSet<>();
-        for (Mortgage mortgage : mortgages) {
-            if (mortgage.getNextPaymentDay() == null || mortgage.getMonthlyPayment() == null) {
-                continue;
-            }
-            if (mortgage.getStatus() != com.alkicorp.bankingsim.model.enums.MortgageStatus.ACCEPTED) {
-                continue;
-            }
-            if (mortgage.getProduct() == null
-                    || mortgage.getProduct().getStatus() != com.alkicorp.bankingsim.model.enums.ProductStatus.OWNED
-                    || mortgage.getProduct().getOwnerClient() == null
-                    || mortgage.getProduct().getOwnerClient().getId() == null
-                    || !mortgage.getProduct().getOwnerClient().getId().equals(mortgage.getClient().getId())) {
-                continue;
-            }
-            Long productId = mortgage.getProduct().getId();
-            if (productId != null && paidProductIds.contains(productId)) {
-                continue;
-            }
-            if (day < mortgage.getNextPaymentDay()) {
-                continue;
-            }
-            Client client = mortgage.getClient();
-            BigDecimal amountDue = mortgage.getMonthlyPayment();
-            BigDecimal payAmount = client.getCheckingBalance().min(amountDue);
-            Instant now = Instant.now(clock);
-            if (payAmount.compareTo(BigDecimal.ZERO) > 0) {
-                client.setCheckingBalance(client.getCheckingBalance().subtract(payAmount));
-                Transaction tx = new Transaction();
-                tx.setClient(client);
-                tx.setType(TransactionType.MORTGAGE_PAYMENT);
-                tx.setAmount(payAmount.setScale(2, RoundingMode.HALF_UP));
-                tx.setGameDay(day);
-                tx.setCreatedAt(now);
-                transactionRepository.save(tx);
-                state.setLiquidCash(state.getLiquidCash().add(payAmount));
-                mortgage.setLastPaymentStatus(payAmount.compareTo(amountDue) >= 0 ? "PAID" : "PARTIAL");
-                if (payAmount.compareTo(amountDue) < 0) {
-                    mortgage.setMissedPayments(mortgage.getMissedPayments() + 1);
-                }
-                BigDecimal totalPaid = mortgage.getTotalPaid() == null
-                        ? BigDecimal.ZERO.setScale(2, RoundingMode.HALF_UP)
-                        : mortgage.getTotalPaid();
-                BigDecimal updatedPaid = totalPaid.add(payAmount).setScale(2, RoundingMode.HALF_UP);
-                if (mortgage.getPropertyPrice() != null
-                        && updatedPaid.compareTo(mortgage.getPropertyPrice()) >= 0) {
-                    updatedPaid = mortgage.getPropertyPrice();
-                    mortgage.setNextPaymentDay(null);
-                    mortgage.setLastPaymentStatus("PAID_OFF");
-                }
-                mortgage.setTotalPaid(updatedPaid);
-            } else {
-                mortgage.setLastPaymentStatus("MISSED");
-                mortgage.setMissedPayments(mortgage.getMissedPayments() + 1);
-            }
-            Integer paymentsMade = mortgage.getPaymentsMade();
-            mortgage.setPaymentsMade((paymentsMade == null ? 0 : paymentsMade) + 1);
-            if (mortgage.getNextPaymentDay() != null) {
-                mortgage.setNextPaymentDay(day + SimulationConstants.REPAYMENT_PERIOD_DAYS);
-            }
-            mortgage.setUpdatedAt(now);
-            mortgageRepository.save(mortgage);
-            clientRepository.save(client);
-            if (productId != null) {
-                paidProductIds.add(productId);
-            }
-        }
+    /**
+     * Replays whole days {@code firstDay..lastDay} over the slot's rows, loaded once for the whole span (see
+     * {@link TickProcessor#replayDays}).
+     */
+    private void catchUp(BankState state, int firstDay, int lastDay, double newDayValue) {
+        SlotWorkingSet set = tickProcessor.load(state);
+        tickProcessor.replayDays(set, firstDay, lastDay, jpaTickWriter);
+        // Discharge only compares against the current clock, so one check covers every replayed day.
+        bankruptcyService.checkDischarge(state.getSlotId(), newDayValue);
     }
 
-    private void recordInvestmentEvent(int slotId, User user, InvestmentEventType type, BigDecimal amount,
-            int gameDay) {
-        InvestmentEvent event = new InvestmentEvent();
-        event.setSlotId(slotId);
-        event.setUser(user);
-        event.setType(type);
-        event.setAsset("S&P 500");
-        event.setAmount(amount);
-        event.setGameDay(gameDay);
-        event.setCreatedAt(Instant.now(clock));
-        investmentEventRepository.save(event);
+    public record FastForwardReport(BankState state, int days, double fromGameDay, double toGameDay,
+            double elapsedMs, double daysPerSecond, long rowsInserted, long rowsUpdated,
+            Map<String, Double> stageMs) {
     }
 }
@@ -0,0 +1,44 @@
+package com.alkicorp.bankingsim.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cost of background ticks, kept apart from request latency.
+ */
+@Component
+public class SimulationTickStats {
+
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong slotsAdvanced = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong lastNanos = new AtomicLong();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    public void recordTick(int slots, int failed, long nanos) {
+        ticks.incrementAndGet();
+        slotsAdvanced.addAndGet(slots - failed);
+        failures.addAndGet(failed);
+        totalNanos.addAndGet(nanos);
+        lastNanos.set(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public Snapshot snapshot() {
+        long tickCount = ticks.get();
+        long total = totalNanos.get();
+        return new Snapshot(
+                tickCount,
+                slotsAdvanced.get(),
+                failures.get(),
+                tickCount == 0 ? 0d : total / (double) tickCount / 1_000_000d,
+                lastNanos.get() / 1_000_000d,
+                maxNanos.get() / 1_000_000d);
+    }
+
+    public record Snapshot(long ticks, long slotsAdvanced, long failures, double avgTickMs, double lastTickMs,
+            double maxTickMs) {
+    }
+}
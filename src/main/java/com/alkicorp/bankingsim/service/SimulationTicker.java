@@ -0,0 +1,92 @@
+package com.alkicorp.bankingsim.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Advances every active slot in the background so request threads only read materialized state.
+ * Runs on its own single thread, which also keeps two ticks from ever advancing the same slot at once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SimulationTicker {
+
+    static final long TICK_INTERVAL_MS = SimulationConstants.REAL_MS_PER_GAME_DAY
+            / SimulationConstants.TICKS_PER_GAME_DAY;
+
+    private final SimulationService simulationService;
+    private final ActiveSlotRegistry activeSlotRegistry;
+    private final SimulationTickStats tickStats;
+    private final InMemorySlotEngine inMemorySlotEngine;
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    void start() {
+        if (!activeSlotRegistry.isEnabled()) {
+            log.info("Simulation ticker disabled; slots advance inline on each request");
+            return;
+        }
+        if (inMemorySlotEngine.isEnabled()) {
+            log.info("Simulation ticker using the in-memory engine");
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "simulation-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::tick, TICK_INTERVAL_MS, TICK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            try {
+                executor.awaitTermination(TICK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            inMemorySlotEngine.flushAll();
+        }
+    }
+
+    void tick() {
+        List<ActiveSlotRegistry.SlotKey> slots = activeSlotRegistry.activeSlots();
+        inMemorySlotEngine.retain(slots);
+        if (slots.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        int failed = 0;
+        for (ActiveSlotRegistry.SlotKey slot : slots) {
+            try {
+                boolean exists = inMemorySlotEngine.isEnabled()
+                        ? inMemorySlotEngine.advance(slot.userId(), slot.slotId())
+                        : simulationService.advanceSlot(slot.userId(), slot.slotId()).isPresent();
+                if (!exists) {
+                    activeSlotRegistry.remove(slot.userId(), slot.slotId());
+                }
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException ex) {
+                // A request advanced the slot first (the spending index rejects a day it already charged); the
+                // next tick continues from its state.
+                log.debug("Tick lost a race for user {} slot {}", slot.userId(), slot.slotId());
+            } catch (RuntimeException ex) {
+                failed++;
+                log.warn("Tick failed for user {} slot {}", slot.userId(), slot.slotId(), ex);
+            }
+        }
+        long elapsed = System.nanoTime() - started;
+        tickStats.recordTick(slots.size(), failed, elapsed);
+        log.debug("Ticked {} slot(s) in {} ms", slots.size(), elapsed / 1_000_000d);
+    }
+}
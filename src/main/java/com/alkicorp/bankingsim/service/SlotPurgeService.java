@@ -0,0 +1,79 @@
+package com.alkicorp.bankingsim.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Deletes everything a user's slot holds except its bank state, with one set-based statement per table.
+ * Tables are cleared children first, so the foreign key checks along the way find nothing; the ledger partition
+ * is truncated (see {@link LedgerPartitions}). Runs in the caller's transaction and bypasses the persistence
+ * context, so the caller must not hold entities of the slot's clients.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlotPurgeService {
+
+    private static final String SLOT_CLIENTS =
+            "slot_id = ? and client_id in (select id from client where bank_state_id = ?)";
+    /** Tables holding rows of the slot's clients, children before parents. */
+    private static final String[] CLIENT_TABLES = {
+            "repossession_event", "bankruptcy_applications", "client_living", "client_jobs", "mortgages", "loans" };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerPartitions ledgerPartitions;
+
+    /**
+     * Purges the slot. {@code bankStateId} is {@code null} when the slot was never started; only investment
+     * events can exist then.
+     */
+    @Transactional
+    public PurgeReport purge(Long userId, int slotId, Long bankStateId) {
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        Map<String, Double> stageMs = new LinkedHashMap<>();
+        long started = System.nanoTime();
+        long mark = started;
+        if (bankStateId != null) {
+            ledgerPartitions.reset(bankStateId);
+            mark = stage(stageMs, "client_transaction", mark);
+            rows.put("client_day_summary", jdbcTemplate.update("""
+                    delete from client_day_summary
+                    where client_id in (select id from client where bank_state_id = ?)""", bankStateId));
+            mark = stage(stageMs, "client_day_summary", mark);
+            for (String table : CLIENT_TABLES) {
+                rows.put(table, jdbcTemplate.update("delete from " + table + " where " + SLOT_CLIENTS,
+                        slotId, bankStateId));
+                mark = stage(stageMs, table, mark);
+            }
+            // Properties bought by the slot's clients go back on the market rather than being deleted.
+            rows.put("products", jdbcTemplate.update("""
+                    update products
+                    set owner_client_id = null,
+                      status = case when status = 'OWNED' then 'AVAILABLE' else status end
+                    where owner_client_id in (select id from client where bank_state_id = ?)""", bankStateId));
+            mark = stage(stageMs, "products", mark);
+            rows.put("client", jdbcTemplate.update("delete from client where bank_state_id = ?", bankStateId));
+            mark = stage(stageMs, "client", mark);
+        }
+        rows.put("investment_event", jdbcTemplate.update(
+                "delete from investment_event where user_id = ? and slot_id = ?", userId, slotId));
+        stage(stageMs, "investment_event", mark);
+        double elapsedMs = (System.nanoTime() - started) / 1_000_000d;
+        return new PurgeReport(rows, stageMs, elapsedMs);
+    }
+
+    private static long stage(Map<String, Double> stageMs, String name, long since) {
+        long now = System.nanoTime();
+        stageMs.put(name, (now - since) / 1_000_000d);
+        return now;
+    }
+
+    /**
+     * Rows deleted per table (for {@code products}, released back to the market) and the time each step took.
+     */
+    public record PurgeReport(Map<String, Integer> rows, Map<String, Double> stageMs, double elapsedMs) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * One slot's simulation rows, loaded once by {@link TickProcessor#load} and indexed by client so a multi-day
+ * replay never goes back to the database. The direct-JPA path uses a set for a single advance;
+ * {@link InMemorySlotEngine} keeps its sets, detached, between ticks.
+ */
+final class SlotWorkingSet {
+
+    private final BankState state;
+    private final List<Client> clients;
+    private final List<Loan> loans;
+    private final List<Mortgage> mortgages;
+    private final List<ClientLiving> livings;
+    private final List<ClientJob> jobs;
+    private final Map<Long, List<Loan>> loansByClient;
+    private final Map<Long, List<Mortgage>> mortgagesByClient;
+    private final Map<Long, List<ClientJob>> jobsByClient;
+    private final Map<Long, ClientLiving> livingByClient = new HashMap<>();
+
+    SlotWorkingSet(BankState state, List<Client> clients, List<Loan> loans, List<Mortgage> mortgages,
+            List<ClientLiving> livings, List<ClientJob> jobs) {
+        Map<Long, Client> clientsById = new HashMap<>();
+        clients.forEach(client -> clientsById.put(client.getId(), client));
+        this.state = state;
+        this.clients = List.copyOf(clients);
+        // Rows whose client is not part of this slot would only carry uninitialized proxies.
+        this.loans = ownedBy(loans, Loan::getClient, clientsById);
+        this.mortgages = ownedBy(mortgages, Mortgage::getClient, clientsById);
+        this.livings = ownedBy(livings, ClientLiving::getClient, clientsById);
+        this.jobs = ownedBy(jobs, ClientJob::getClient, clientsById);
+        this.loansByClient = byClient(this.loans, Loan::getClient);
+        this.mortgagesByClient = byClient(this.mortgages, Mortgage::getClient);
+        this.jobsByClient = byClient(this.jobs, ClientJob::getClient);
+        this.livings.forEach(living -> livingByClient.put(living.getClient().getId(), living));
+    }
+
+    BankState state() {
+        return state;
+    }
+
+    List<Client> clients() {
+        return clients;
+    }
+
+    List<Loan> loans() {
+        return loans;
+    }
+
+    List<Mortgage> mortgages() {
+        return mortgages;
+    }
+
+    List<ClientLiving> livings() {
+        return livings;
+    }
+
+    List<ClientJob> jobs() {
+        return jobs;
+    }
+
+    List<Loan> loansOf(Client client) {
+        return loansByClient.getOrDefault(client.getId(), List.of());
+    }
+
+    List<Mortgage> mortgagesOf(Client client) {
+        return mortgagesByClient.getOrDefault(client.getId(), List.of());
+    }
+
+    List<ClientJob> jobsOf(Client client) {
+        return jobsByClient.getOrDefault(client.getId(), List.of());
+    }
+
+    ClientLiving livingOf(Client client) {
+        return livingByClient.get(client.getId());
+    }
+
+    private static <T> List<T> ownedBy(List<T> rows, Function<T, Client> owner, Map<Long, Client> clientsById) {
+        List<T> owned = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            Client client = owner.apply(row);
+            if (client != null && clientsById.get(client.getId()) == client) {
+                owned.add(row);
+            }
+        }
+        return owned;
+    }
+
+    private static <T> Map<Long, List<T>> byClient(List<T> rows, Function<T, Client> owner) {
+        Map<Long, List<T>> grouped = new HashMap<>();
+        for (T row : rows) {
+            grouped.computeIfAbsent(owner.apply(row).getId(), id -> new ArrayList<>()).add(row);
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,88 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.SpendingCategory;
+import com.alkicorp.bankingsim.repository.SpendingCategoryRepository;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The active spending categories, read once and shared by every client-day until an admin changes a
+ * category. Categories only change through {@link #save}, which drops the cached set once the change is
+ * committed; a load that raced with a change is not kept.
+ */
+@Component
+@RequiredArgsConstructor
+public class SpendingCategoryCatalog {
+
+    private final SpendingCategoryRepository spendingCategoryRepository;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile List<ActiveCategory> active;
+
+    /**
+     * The categories with {@code defaultActive} set, in id order.
+     */
+    public List<ActiveCategory> active() {
+        List<ActiveCategory> cached = active;
+        if (cached != null) {
+            return cached;
+        }
+        long loadedAt = generation.get();
+        List<SpendingCategory> categories = spendingCategoryRepository.findAllByOrderByIdAsc();
+        ActiveCategory[] loaded = categories.stream()
+                .filter(category -> Boolean.TRUE.equals(category.getDefaultActive()))
+                .map(ActiveCategory::of)
+                .toArray(ActiveCategory[]::new);
+        cached = List.of(loaded);
+        synchronized (this) {
+            if (generation.get() == loadedAt) {
+                active = cached;
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Saves a created or edited category and drops the cached set.
+     */
+    public SpendingCategory save(SpendingCategory category) {
+        SpendingCategory saved = spendingCategoryRepository.save(category);
+        invalidate();
+        return saved;
+    }
+
+    public void invalidate() {
+        drop();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Loads before the commit still see the old row; drop whatever they cached once it is visible.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    drop();
+                }
+            });
+        }
+    }
+
+    private synchronized void drop() {
+        generation.incrementAndGet();
+        active = null;
+    }
+
+    /**
+     * What spending needs from a category, as primitives so the per-client-day draw does no BigDecimal work.
+     */
+    public record ActiveCategory(long id, double minPctIncome, double maxPctIncome, double variability) {
+
+        static ActiveCategory of(SpendingCategory category) {
+            return new ActiveCategory(
+                    category.getId(),
+                    category.getMinPctIncome().doubleValue(),
+                    category.getMaxPctIncome().doubleValue(),
+                    category.getVariability() != null ? category.getVariability().doubleValue() : 0d);
+        }
+    }
+}
@@ -1,20 +1,18 @@
 package com.alkicorp.bankingsim.service;
 
 import com.alkicorp.bankingsim.model.Client;
-import com.alkicorp.bankingsim.model.SpendingCategory;
+import com.alkicorp.bankingsim.model.ClientJob;
 import com.alkicorp.bankingsim.model.Transaction;
 import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
-import com.alkicorp.bankingsim.repository.SpendingCategoryRepository;
-import com.alkicorp.bankingsim.repository.TransactionRepository;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -25,13 +23,12 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class SpendingService {
 
-    private final SpendingCategoryRepository spendingCategoryRepository;
+    private final SpendingCategoryCatalog spendingCategoryCatalog;
     private final ClientRepository clientRepository;
     private final ClientJobRepository clientJobRepository;
-    private final TransactionRepository transactionRepository;
     private final MandatorySpendService mandatorySpendService;
+    private final JpaTickWriter jpaTickWriter;
     private final Clock clock = Clock.systemUTC();
-    private final Random random = new Random();
 
     @Transactional
     public List<Transaction> generateSpending(int slotId, Long clientId) {
@@ -50,36 +47,72 @@ public class SpendingService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Client not found"));
 
         // Avoid double-charging the same simulated day
-        if (transactionRepository.existsByClientIdAndTypeAndGameDay(clientId, TransactionType.SPENDING, gameDay)) {
+        if (isSettled(client, gameDay)) {
             return List.of();
         }
 
         BigDecimal monthlyIncome = resolveMonthlyIncome(client);
-        // Use central service for mandatory spend (loans, mortgages, rent)
-        BigDecimal mandatory = mandatorySpendService.recalcAndPersist(client);
+        // Mandatory spend is kept current by the events that change it; only a never-filled cache is computed.
+        BigDecimal mandatory = client.getMonthlyMandatoryCache() != null
+                ? client.getMonthlyMandatoryCache()
+                : mandatorySpendService.recalcAndPersist(client);
+        long slotSeed = client.getBankState() != null ? client.getBankState().getRngSeed() : 0L;
+        return spend(client, gameDay, monthlyIncome, mandatory, spendingCategoryCatalog.active(),
+                random(slotSeed, client.getId(), gameDay), jpaTickWriter);
+    }
 
-        BigDecimal disposableCalc = monthlyIncome.subtract(mandatory);
-        if (disposableCalc.compareTo(BigDecimal.ZERO) < 0) {
-            disposableCalc = BigDecimal.ZERO;
-        }
+    /**
+     * The generator for one client-day of spending, derived from the slot's {@code rngSeed}. Every client-day
+     * gets its own stream, so parallel partitions share no generator and a slot replayed from the same seed
+     * spends exactly the same amounts however its days and clients are split up.
+     */
+    public static SplittableRandom random(long slotSeed, long clientId, int gameDay) {
+        long seed = mix(slotSeed ^ clientId * 0x9E3779B97F4A7C15L);
+        return new SplittableRandom(mix(seed ^ gameDay * 0xC2B2AE3D27D4EB4FL));
+    }
 
-        List<SpendingCategory> categories = spendingCategoryRepository.findAllByOrderByIdAsc();
-        BigDecimal disposable = disposableCalc;
-        return categories.stream()
-                .filter(cat -> Boolean.TRUE.equals(cat.getDefaultActive()))
-                .flatMap(cat -> spendInCategory(client, gameDay, disposable, cat).stream())
-                .toList();
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
     }
 
-    private List<Transaction> spendInCategory(Client client, double gameDay, BigDecimal disposable,
-            SpendingCategory cat) {
-        if (disposable.compareTo(BigDecimal.ZERO) <= 0) {
-            return List.of();
+    /**
+     * Whether spending for {@code gameDay} was already settled, by the client's {@code lastSpendingDay}
+     * watermark.
+     */
+    public static boolean isSettled(Client client, int gameDay) {
+        return client.getLastSpendingDay() != null && gameDay <= client.getLastSpendingDay();
+    }
+
+    /**
+     * Spends one client-day from figures the caller already holds, across the active {@code categories}, and
+     * moves the client's spending watermark to {@code gameDay}. Callers skip days {@link #isSettled} reports;
+     * the rows are numbered within the day so the database rejects a day that is charged twice anyway.
+     */
+    public List<Transaction> spend(Client client, int gameDay, BigDecimal monthlyIncome, BigDecimal mandatory,
+            List<SpendingCategoryCatalog.ActiveCategory> categories, SplittableRandom random, TickWriter writer) {
+        Money disposable = Money.of(monthlyIncome, RoundingMode.HALF_UP)
+                .minus(Money.of(mandatory, RoundingMode.HALF_UP))
+                .max(Money.ZERO);
+        List<Transaction> transactions = new ArrayList<>();
+        for (SpendingCategoryCatalog.ActiveCategory cat : categories) {
+            spendInCategory(client, gameDay, disposable, cat, random, transactions, writer);
+        }
+        client.setLastSpendingDay(gameDay);
+        writer.client(client);
+        return transactions;
+    }
+
+    private void spendInCategory(Client client, int gameDay, Money disposable,
+            SpendingCategoryCatalog.ActiveCategory cat, SplittableRandom random, List<Transaction> dayTransactions,
+            TickWriter writer) {
+        if (!disposable.isPositive()) {
+            return;
         }
 
-        double basePct = cat.getMinPctIncome().doubleValue() +
-                random.nextDouble() * (cat.getMaxPctIncome().doubleValue() - cat.getMinPctIncome().doubleValue());
-        double variability = cat.getVariability() != null ? cat.getVariability().doubleValue() : 0d;
+        double basePct = cat.minPctIncome() + random.nextDouble() * (cat.maxPctIncome() - cat.minPctIncome());
+        double variability = cat.variability();
         double swing = variability > 0 ? (random.nextDouble() * 2 * variability - variability) : 0d; // range [-var,
                                                                                                      // +var]
         double pct = Math.max(0d, basePct * (1 + swing));
@@ -87,48 +120,45 @@ public class SpendingService {
         // Calculate spending based on DISPOSABLE income (remainder after mandatory
         // payments)
         // not total monthly income
-        BigDecimal target = disposable.multiply(BigDecimal.valueOf(pct));
+        Money balance = Money.of(client.getCheckingBalance(), RoundingMode.HALF_UP);
+        Money target = disposable.times(pct, RoundingMode.HALF_UP);
 
         // In this simulation, 1 game day = 1 month (12 days per year).
         // Split the monthly target into multiple events to spread spending across the month.
-        BigDecimal available = target.min(client.getCheckingBalance());
-        if (available.compareTo(BigDecimal.ZERO) <= 0) {
-            return List.of();
+        Money available = target.min(balance);
+        if (!available.isPositive()) {
+            return;
         }
 
         int events = Math.max(1, SimulationConstants.SPENDING_EVENTS_PER_MONTH);
-        List<BigDecimal> splits = splitAmount(available, events);
+        List<Money> splits = splitAmount(available, events, random);
 
-        List<Transaction> transactions = new ArrayList<>();
-        BigDecimal remainingBalance = client.getCheckingBalance();
+        int spentBefore = dayTransactions.size();
+        Money remainingBalance = balance;
         Instant now = Instant.now(clock);
-        for (BigDecimal split : splits) {
-            if (remainingBalance.compareTo(BigDecimal.ZERO) <= 0) {
+        for (Money split : splits) {
+            if (!remainingBalance.isPositive()) {
                 break;
             }
-            BigDecimal amount = split.min(remainingBalance).setScale(2, RoundingMode.HALF_UP);
-            if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-                continue;
-            }
-            remainingBalance = remainingBalance.subtract(amount);
+            Money amount = split.min(remainingBalance);
+            remainingBalance = remainingBalance.minus(amount);
             Transaction tx = new Transaction();
             tx.setClient(client);
             tx.setType(TransactionType.SPENDING);
-            tx.setAmount(amount);
-            tx.setGameDay((int) Math.floor(gameDay));
+            tx.setAmount(amount.toBigDecimal());
+            tx.setGameDay(gameDay);
+            tx.setSpendingSeq(dayTransactions.size());
             tx.setCreatedAt(now);
-            transactions.add(transactionRepository.save(tx));
+            writer.transaction(tx);
+            dayTransactions.add(tx);
         }
 
-        if (!transactions.isEmpty()) {
-            client.setCheckingBalance(remainingBalance);
-            clientRepository.save(client);
+        if (dayTransactions.size() > spentBefore) {
+            client.setCheckingBalance(remainingBalance.toBigDecimal());
         }
-
-        return transactions;
     }
 
-    private List<BigDecimal> splitAmount(BigDecimal total, int events) {
+    private static List<Money> splitAmount(Money total, int events, SplittableRandom random) {
         if (events <= 1) {
             return List.of(total);
         }
@@ -139,21 +169,17 @@ public class SpendingService {
             weights[i] = weight;
             weightSum += weight;
         }
-        List<BigDecimal> splits = new ArrayList<>(events);
-        BigDecimal remaining = total;
+        List<Money> splits = new ArrayList<>(events);
+        Money remaining = total;
         for (int i = 0; i < events; i++) {
-            BigDecimal portion;
+            Money portion;
             if (i == events - 1) {
                 portion = remaining;
             } else {
-                double ratio = weights[i] / weightSum;
-                portion = total.multiply(BigDecimal.valueOf(ratio)).setScale(2, RoundingMode.HALF_UP);
-                if (portion.compareTo(remaining) > 0) {
-                    portion = remaining;
-                }
-                remaining = remaining.subtract(portion);
+                portion = total.times(weights[i] / weightSum, RoundingMode.HALF_UP).min(remaining);
+                remaining = remaining.minus(portion);
             }
-            if (portion.compareTo(BigDecimal.ZERO) > 0) {
+            if (portion.isPositive()) {
                 splits.add(portion);
             }
         }
@@ -171,14 +197,25 @@ public class SpendingService {
                 && client.getMonthlyIncomeCache().compareTo(BigDecimal.ZERO) > 0) {
             return client.getMonthlyIncomeCache();
         }
-        BigDecimal monthlyIncome = clientJobRepository.findByClientId(client.getId()).stream()
+        return resolveMonthlyIncome(client, clientJobRepository.findByClientId(client.getId()), jpaTickWriter);
+    }
+
+    /**
+     * Same as {@link #resolveMonthlyIncome(Client)} for job rows the caller already holds.
+     */
+    public BigDecimal resolveMonthlyIncome(Client client, List<ClientJob> jobs, TickWriter writer) {
+        if (client.getMonthlyIncomeCache() != null
+                && client.getMonthlyIncomeCache().compareTo(BigDecimal.ZERO) > 0) {
+            return client.getMonthlyIncomeCache();
+        }
+        BigDecimal monthlyIncome = jobs.stream()
                 .filter(cj -> Boolean.TRUE.equals(cj.getPrimary()))
                 .map(cj -> cj.getJob().getAnnualSalary().divide(BigDecimal.valueOf(SimulationConstants.DAYS_PER_YEAR),
                         2,
                         RoundingMode.HALF_UP))
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
         client.setMonthlyIncomeCache(monthlyIncome);
-        clientRepository.save(client);
+        writer.client(client);
         return monthlyIncome;
     }
 }
@@ -0,0 +1,469 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.model.enums.MortgageStatus;
+import com.alkicorp.bankingsim.model.enums.ProductStatus;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import jakarta.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Simulation steps shared by the direct-JPA path in {@link SimulationService} and the in-memory engine. Each
+ * step works on entities the caller already holds and hands what it changes to a {@link TickWriter}; a slot's
+ * rows are loaded once per advance by {@link #load}, so the number of queries does not grow with the number
+ * of days replayed.
+ */
+@Component
+public class TickProcessor {
+
+    private final ClientRepository clientRepository;
+    private final LoanRepository loanRepository;
+    private final MortgageRepository mortgageRepository;
+    private final ClientLivingRepository clientLivingRepository;
+    private final ClientJobRepository clientJobRepository;
+    private final SpendingCategoryCatalog spendingCategoryCatalog;
+    private final RentService rentService;
+    private final SpendingService spendingService;
+    private final MandatorySpendService mandatorySpendService;
+    /** Days between two loan or mortgage payments. */
+    private final int repaymentPeriodDays;
+    private final Clock clock = Clock.systemUTC();
+    private ForkJoinPool pool;
+
+    @Value("${app.simulation.parallel.threads:0}")
+    private int parallelThreads;
+
+    @Value("${app.simulation.parallel.min-clients:500}")
+    private int parallelMinClients;
+
+    @Autowired
+    public TickProcessor(ClientRepository clientRepository, LoanRepository loanRepository,
+            MortgageRepository mortgageRepository, ClientLivingRepository clientLivingRepository,
+            ClientJobRepository clientJobRepository, SpendingCategoryCatalog spendingCategoryCatalog,
+            RentService rentService, SpendingService spendingService, MandatorySpendService mandatorySpendService) {
+        this(clientRepository, loanRepository, mortgageRepository, clientLivingRepository, clientJobRepository,
+                spendingCategoryCatalog, rentService, spendingService, mandatorySpendService,
+                SimulationConstants.REPAYMENT_PERIOD_DAYS);
+    }
+
+    /**
+     * Runs loans and mortgages on another payment schedule, so tests can step several due dates in a few days.
+     */
+    TickProcessor(ClientRepository clientRepository, LoanRepository loanRepository,
+            MortgageRepository mortgageRepository, ClientLivingRepository clientLivingRepository,
+            ClientJobRepository clientJobRepository, SpendingCategoryCatalog spendingCategoryCatalog,
+            RentService rentService, SpendingService spendingService, MandatorySpendService mandatorySpendService,
+            int repaymentPeriodDays) {
+        this.clientRepository = clientRepository;
+        this.loanRepository = loanRepository;
+        this.mortgageRepository = mortgageRepository;
+        this.clientLivingRepository = clientLivingRepository;
+        this.clientJobRepository = clientJobRepository;
+        this.spendingCategoryCatalog = spendingCategoryCatalog;
+        this.rentService = rentService;
+        this.spendingService = spendingService;
+        this.mandatorySpendService = mandatorySpendService;
+        this.repaymentPeriodDays = repaymentPeriodDays;
+    }
+
+    /**
+     * Loads every row a replay touches for the slot, one query per table.
+     */
+    SlotWorkingSet load(BankState state) {
+        int slotId = state.getSlotId();
+        Long userId = state.getUser().getId();
+        List<ClientJob> jobs = clientJobRepository.findBySlotIdAndClientBankStateUserId(slotId, userId);
+        // Jobs come from the second-level cache rather than a join; resolve them while the session is open,
+        // since the working set outlives it.
+        jobs.forEach(job -> Hibernate.initialize(job.getJob()));
+        return new SlotWorkingSet(
+                state,
+                // Clients first, so the other rows resolve their client to these instances.
+                clientRepository.findBySlotIdAndBankStateUserId(slotId, userId),
+                loanRepository.findBySlotIdAndUserId(slotId, userId),
+                mortgageRepository.findBySlotIdAndUserId(slotId, userId),
+                clientLivingRepository.findBySlotIdAndClientBankStateUserId(slotId, userId),
+                jobs);
+    }
+
+    /**
+     * Replays whole days {@code firstDay..lastDay} over the loaded rows. Client obligations are stepped day by
+     * day and report the repayments the bank received; the bank-side growth and S&amp;P 500 rules are then
+     * applied to the whole span in one pass by {@link CatchUpCalculator}. Rent, loans and mortgages sit in
+     * {@link DueEventQueue}s keyed by their due day, so each day only visits the rows that fall due. Nothing
+     * credits a checking account inside this loop (payroll runs afterwards), so once a client is drained their
+     * remaining loan and mortgage days are settled in closed form instead of being stepped. Spending is charged
+     * for days past each client's {@code lastSpendingDay}, so a span that overlaps an earlier replay is never
+     * charged twice and no ledger query is needed to find out.
+     * <p>
+     * Clients never affect each other's day, so a slot with at least {@code app.simulation.parallel.min-clients}
+     * clients is split into one partition per {@code app.simulation.parallel.threads} and the partitions are
+     * replayed on a bounded pool. Each partition records its writes; the bank's inflows are summed and the
+     * writes handed to {@code writer} on the calling thread, partition by partition in client order.
+     */
+    void replayDays(SlotWorkingSet set, int firstDay, int lastDay, TickWriter writer) {
+        for (Client client : set.clients()) {
+            if (client.getDailyWithdrawn() == null || client.getDailyWithdrawn().signum() != 0) {
+                client.setDailyWithdrawn(BigDecimal.ZERO);
+                writer.client(client);
+            }
+        }
+        // Filtering here, on the calling thread, also initializes the lazy products before any worker reads them.
+        List<ClientLiving> livings = set.livings().stream().filter(TickProcessor::chargesRent).toList();
+        List<Loan> loans = set.loans().stream().filter(TickProcessor::collectsRepayments).toList();
+        List<Mortgage> mortgages = set.mortgages().stream().filter(TickProcessor::collectsRepayments).toList();
+        Replay replay = new Replay(set, firstDay, lastDay, set.state().getRngSeed(), spendingCategoryCatalog.active());
+        List<List<Client>> partitions = partition(set.clients());
+        BigDecimal[] inflows = partitions.size() <= 1
+                ? replayClients(replay, set.clients(), livings, loans, mortgages, writer)
+                : replayPartitions(replay, partitions, livings, loans, mortgages, writer);
+        applyBankSide(set.state(), firstDay, lastDay, inflows, writer);
+    }
+
+    private BigDecimal[] replayClients(Replay replay, List<Client> clients, List<ClientLiving> livings,
+            List<Loan> loans, List<Mortgage> mortgages, TickWriter writer) {
+        int firstDay = replay.firstDay();
+        int lastDay = replay.lastDay();
+        DueEventQueue<ClientLiving> rentDue = new DueEventQueue<>(livings,
+                living -> living.getNextRentDay() == null ? firstDay : living.getNextRentDay());
+        DueEventQueue<Loan> loansDue = new DueEventQueue<>(loans, Loan::getNextPaymentDay);
+        DueEventQueue<Mortgage> mortgagesDue = new DueEventQueue<>(mortgages, Mortgage::getNextPaymentDay);
+        BigDecimal[] inflows = new BigDecimal[lastDay - firstDay + 1];
+        Map<Long, Integer> settledProductsThrough = new HashMap<>();
+        for (int day = firstDay; day <= lastDay; day++) {
+            // Only the rows whose due day has come are handed to the collectors.
+            rentService.chargeRent(rentDue.pollDue(day), day, writer);
+            List<Mortgage> mortgagesToday = mortgagesDue.pollDue(day);
+            inflows[day - firstDay] = collectLoanRepayments(loansDue.pollDue(day), day, lastDay, writer)
+                    .add(collectMortgageRepayments(mortgagesToday, day, lastDay, settledProductsThrough, writer));
+            for (Mortgage mortgage : mortgagesToday) {
+                if (mortgage.getNextPaymentDay() == null) {
+                    // Paid off today: its payment no longer counts toward the client's mandatory spend.
+                    refreshMandatory(replay.set(), mortgage.getClient(), writer);
+                }
+            }
+            rentDue.requeue(day);
+            loansDue.requeue(day);
+            mortgagesDue.requeue(day);
+            for (Client client : clients) {
+                if (client.getCheckingBalance() != null && client.getCheckingBalance().compareTo(BigDecimal.ZERO) > 0
+                        && !SpendingService.isSettled(client, day)) {
+                    spend(replay, client, day, writer);
+                }
+            }
+        }
+        return inflows;
+    }
+
+    private BigDecimal[] replayPartitions(Replay replay, List<List<Client>> partitions, List<ClientLiving> livings,
+            List<Loan> loans, List<Mortgage> mortgages, TickWriter writer) {
+        List<ForkJoinTask<PartitionResult>> tasks = new ArrayList<>(partitions.size());
+        for (List<Client> clients : partitions) {
+            Set<Client> members = Collections.newSetFromMap(new IdentityHashMap<>());
+            members.addAll(clients);
+            List<ClientLiving> ownLivings = livings.stream().filter(row -> members.contains(row.getClient())).toList();
+            List<Loan> ownLoans = loans.stream().filter(row -> members.contains(row.getClient())).toList();
+            List<Mortgage> ownMortgages = mortgages.stream().filter(row -> members.contains(row.getClient())).toList();
+            tasks.add(pool().submit(() -> {
+                DeferredTickWriter writes = new DeferredTickWriter();
+                return new PartitionResult(replayClients(replay, clients, ownLivings, ownLoans, ownMortgages, writes),
+                        writes);
+            }));
+        }
+        List<PartitionResult> results = new ArrayList<>(tasks.size());
+        tasks.forEach(task -> results.add(task.join()));
+        BigDecimal[] inflows = new BigDecimal[replay.lastDay() - replay.firstDay() + 1];
+        Arrays.fill(inflows, BigDecimal.ZERO);
+        for (PartitionResult result : results) {
+            for (int i = 0; i < inflows.length; i++) {
+                inflows[i] = inflows[i].add(result.inflows()[i]);
+            }
+            result.writes().replayTo(writer);
+        }
+        return inflows;
+    }
+
+    private List<List<Client>> partition(List<Client> clients) {
+        if (parallelThreads <= 1 || clients.size() < Math.max(parallelMinClients, parallelThreads)) {
+            return List.of(clients);
+        }
+        int size = (clients.size() + parallelThreads - 1) / parallelThreads;
+        List<List<Client>> partitions = new ArrayList<>(parallelThreads);
+        for (int from = 0; from < clients.size(); from += size) {
+            partitions.add(clients.subList(from, Math.min(from + size, clients.size())));
+        }
+        return partitions;
+    }
+
+    private synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            pool = new ForkJoinPool(parallelThreads);
+        }
+        return pool;
+    }
+
+    @PreDestroy
+    synchronized void shutdownPool() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    private void spend(Replay replay, Client client, int day, TickWriter writer) {
+        SlotWorkingSet set = replay.set();
+        BigDecimal monthlyIncome = spendingService.resolveMonthlyIncome(client, set.jobsOf(client), writer);
+        BigDecimal mandatory = client.getMonthlyMandatoryCache() != null
+                ? client.getMonthlyMandatoryCache()
+                : refreshMandatory(set, client, writer);
+        spendingService.spend(client, day, monthlyIncome, mandatory, replay.categories(),
+                SpendingService.random(replay.seed(), client.getId(), day), writer);
+    }
+
+    /**
+     * Recomputes the client's mandatory spend from the loaded rows and updates the cache when it changed. The
+     * cache is otherwise maintained by the requests that change an obligation, so replays only call this when a
+     * mortgage is paid off or the cache was never filled.
+     */
+    private BigDecimal refreshMandatory(SlotWorkingSet set, Client client, TickWriter writer) {
+        BigDecimal mandatory = mandatorySpendService.compute(client, set.loansOf(client), set.mortgagesOf(client),
+                set.livingOf(client));
+        if (!Objects.equals(client.getMonthlyMandatoryCache(), mandatory)) {
+            client.setMonthlyMandatoryCache(mandatory);
+            writer.client(client);
+        }
+        return mandatory;
+    }
+
+    /**
+     * Collects the loan payments due on {@code day} and returns what the bank received.
+     */
+    public BigDecimal collectLoanRepayments(List<Loan> loans, int day, int lastDay, TickWriter writer) {
+        Money received = Money.ZERO;
+        for (Loan loan : loans) {
+            if (loan.getNextPaymentDay() == null || !collectsRepayments(loan)) {
+                continue;
+            }
+            if (day < loan.getNextPaymentDay()) {
+                continue;
+            }
+            Client client = loan.getClient();
+            Money balance = Money.of(client.getCheckingBalance(), RoundingMode.HALF_UP);
+            Money amountDue = Money.of(loan.getMonthlyPayment(), RoundingMode.HALF_UP);
+            Money payAmount = balance.min(amountDue);
+            Instant now = Instant.now(clock);
+            int lastDue = day;
+            if (payAmount.isPositive()) {
+                client.setCheckingBalance(balance.minus(payAmount).toBigDecimal());
+                writer.transaction(newTransaction(client, TransactionType.PERSONAL_LOAN_PAYMENT, payAmount, day, now));
+                received = received.plus(payAmount);
+                loan.setLastPaymentStatus(payAmount.compareTo(amountDue) >= 0 ? "PAID" : "PARTIAL");
+                if (payAmount.compareTo(amountDue) < 0) {
+                    loan.setMissedPayments(loan.getMissedPayments() + 1);
+                }
+            } else {
+                // A drained account misses every remaining payment in this span.
+                int missed = dueDatesThrough(day, lastDay);
+                lastDue = day + (missed - 1) * repaymentPeriodDays;
+                loan.setLastPaymentStatus("MISSED");
+                loan.setMissedPayments(loan.getMissedPayments() + missed);
+            }
+            loan.setNextPaymentDay(lastDue + repaymentPeriodDays);
+            loan.setUpdatedAt(now);
+            writer.loan(loan);
+            writer.client(client);
+        }
+        return received.toBigDecimal();
+    }
+
+    /**
+     * Collects the mortgage payments due on {@code day} and returns what the bank received. Only the most
+     * recently updated accepted mortgage on a product pays for it.
+     *
+     * @param settledProductsThrough products whose drained mortgage already settled later days of this span
+     */
+    public BigDecimal collectMortgageRepayments(List<Mortgage> mortgages, int day, int lastDay,
+            Map<Long, Integer> settledProductsThrough, TickWriter writer) {
+        Money received = Money.ZERO;
+        List<Mortgage> ordered = new ArrayList<>(mortgages);
+        ordered.sort(Comparator
+                .comparing(Mortgage::getUpdatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+                .reversed());
+        Set<Long> paidProductIds = new HashSet<>();
+        for (Mortgage mortgage : ordered) {
+            if (mortgage.getNextPaymentDay() == null || !collectsRepayments(mortgage)) {
+                continue;
+            }
+            Long productId = mortgage.getProduct().getId();
+            if (productId != null && (paidProductIds.contains(productId)
+                    || settledProductsThrough.getOrDefault(productId, Integer.MIN_VALUE) >= day)) {
+                continue;
+            }
+            if (day < mortgage.getNextPaymentDay()) {
+                continue;
+            }
+            Client client = mortgage.getClient();
+            Money balance = Money.of(client.getCheckingBalance(), RoundingMode.HALF_UP);
+            Money amountDue = Money.of(mortgage.getMonthlyPayment(), RoundingMode.HALF_UP);
+            Money payAmount = balance.min(amountDue);
+            Instant now = Instant.now(clock);
+            int dueDates = 1;
+            if (payAmount.isPositive()) {
+                client.setCheckingBalance(balance.minus(payAmount).toBigDecimal());
+                writer.transaction(newTransaction(client, TransactionType.MORTGAGE_PAYMENT, payAmount, day, now));
+                received = received.plus(payAmount);
+                mortgage.setLastPaymentStatus(payAmount.compareTo(amountDue) >= 0 ? "PAID" : "PARTIAL");
+                if (payAmount.compareTo(amountDue) < 0) {
+                    mortgage.setMissedPayments(mortgage.getMissedPayments() + 1);
+                }
+                BigDecimal updatedPaid = Money.of(mortgage.getTotalPaid(), RoundingMode.HALF_UP).plus(payAmount)
+                        .toBigDecimal();
+                if (mortgage.getPropertyPrice() != null
+                        && updatedPaid.compareTo(mortgage.getPropertyPrice()) >= 0) {
+                    updatedPaid = mortgage.getPropertyPrice();
+                    mortgage.setNextPaymentDay(null);
+                    mortgage.setLastPaymentStatus("PAID_OFF");
+                }
+                mortgage.setTotalPaid(updatedPaid);
+            } else {
+                // A drained account misses every remaining payment in this span; the product stays
+                // claimed by this mortgage for those days, as it would when stepping.
+                dueDates = dueDatesThrough(day, lastDay);
+                mortgage.setLastPaymentStatus("MISSED");
+                mortgage.setMissedPayments(mortgage.getMissedPayments() + dueDates);
+                if (productId != null) {
+                    settledProductsThrough.put(productId, day + (dueDates - 1) * repaymentPeriodDays);
+                }
+            }
+            Integer paymentsMade = mortgage.getPaymentsMade();
+            mortgage.setPaymentsMade((paymentsMade == null ? 0 : paymentsMade) + dueDates);
+            if (mortgage.getNextPaymentDay() != null) {
+                mortgage.setNextPaymentDay(day + dueDates * repaymentPeriodDays);
+            }
+            mortgage.setUpdatedAt(now);
+            writer.mortgage(mortgage);
+            writer.client(client);
+            if (productId != null) {
+                paidProductIds.add(productId);
+            }
+        }
+        return received.toBigDecimal();
+    }
+
+    /**
+     * How many payments fall due from {@code day}, itself a due date, through {@code lastDay}.
+     */
+    private int dueDatesThrough(int day, int lastDay) {
+        return (lastDay - day) / repaymentPeriodDays + 1;
+    }
+
+    private static boolean chargesRent(ClientLiving living) {
+        return living.getMonthlyRentCache() != null && living.getMonthlyRentCache().compareTo(BigDecimal.ZERO) > 0;
+    }
+
+    private static boolean collectsRepayments(Loan loan) {
+        return loan.getMonthlyPayment() != null && loan.getStatus() == LoanStatus.APPROVED;
+    }
+
+    /**
+     * Only an accepted mortgage on a product its client still owns is charged.
+     */
+    private static boolean collectsRepayments(Mortgage mortgage) {
+        return mortgage.getMonthlyPayment() != null
+                && mortgage.getStatus() == MortgageStatus.ACCEPTED
+                && mortgage.getProduct() != null
+                && mortgage.getProduct().getStatus() == ProductStatus.OWNED
+                && mortgage.getProduct().getOwnerClient() != null
+                && mortgage.getProduct().getOwnerClient().getId() != null
+                && mortgage.getProduct().getOwnerClient().getId().equals(mortgage.getClient().getId());
+    }
+
+    /**
+     * Applies liquid cash growth, S&amp;P 500 growth and dividends for the whole span in one pass (see
+     * {@link CatchUpCalculator}) and records the resulting investment events.
+     */
+    public void applyBankSide(BankState state, int firstDay, int lastDay, BigDecimal[] inflows, TickWriter writer) {
+        CatchUpCalculator.Result bank = CatchUpCalculator.advanceBank(
+                state.getLiquidCash(), state.getInvestedSp500(), firstDay, lastDay, inflows);
+        state.setLiquidCash(bank.liquidCash());
+        state.setInvestedSp500(bank.investedSp500());
+        if (bank.nextGrowthDay() != null) {
+            state.setNextGrowthDay(bank.nextGrowthDay());
+        }
+        if (bank.nextDividendDay() != null) {
+            state.setNextDividendDay(bank.nextDividendDay());
+        }
+        for (CatchUpCalculator.Event event : bank.events()) {
+            writer.investmentEvent(newInvestmentEvent(state.getSlotId(), state.getUser(), event.type(),
+                    event.amount(), event.gameDay()));
+        }
+    }
+
+    private Transaction newTransaction(Client client, TransactionType type, Money amount, int day, Instant now) {
+        Transaction tx = new Transaction();
+        tx.setClient(client);
+        tx.setType(type);
+        tx.setAmount(amount.toBigDecimal());
+        tx.setGameDay(day);
+        tx.setCreatedAt(now);
+        return tx;
+    }
+
+    /**
+     * What every client of one replay shares; the categories are read once per replay, so an in-memory set picks
+     * up category changes on its next tick.
+     */
+    private record Replay(SlotWorkingSet set, int firstDay, int lastDay, long seed,
+            List<SpendingCategoryCatalog.ActiveCategory> categories) {
+    }
+
+    private record PartitionResult(BigDecimal[] inflows, DeferredTickWriter writes) {
+    }
+
+    private InvestmentEvent newInvestmentEvent(int slotId, User user, InvestmentEventType type, BigDecimal amount,
+            int gameDay) {
+        InvestmentEvent event = new InvestmentEvent();
+        event.setSlotId(slotId);
+        event.setUser(user);
+        event.setType(type);
+        event.setAsset("S&P 500");
+        event.setAmount(amount);
+        event.setGameDay(gameDay);
+        event.setCreatedAt(Instant.now(clock));
+        return event;
+    }
+}
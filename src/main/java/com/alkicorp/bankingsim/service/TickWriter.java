@@ -0,0 +1,30 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Transaction;
+
+/**
+ * Receives the rows a simulation step changes or creates. {@link JpaTickWriter} saves them through the
+ * repositories right away; {@link WriteBehindBuffer} keeps them for the in-memory engine's next flush.
+ */
+public interface TickWriter {
+
+    void client(Client client);
+
+    void loan(Loan loan);
+
+    void mortgage(Mortgage mortgage);
+
+    void living(ClientLiving living);
+
+    void job(ClientJob job);
+
+    void transaction(Transaction tx);
+
+    void investmentEvent(InvestmentEvent event);
+}
@@ -0,0 +1,56 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Transaction;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Position of a row in a client's transaction history, which is ordered by {@code createdAt} and then
+ * {@code id}. Handed to API callers as an opaque token.
+ * <p>
+ * Neither value follows commit order: {@code createdAt} is stamped when the row is built and ids are drawn
+ * from a pooled sequence, so a transaction that commits late can leave a row behind a cursor that was
+ * already handed out. Paging back with {@code before} over settled history is unaffected; an {@code after}
+ * page re-reads a lookback window behind the cursor to pick such rows up, and the caller drops the ids it
+ * already has.
+ */
+public record TransactionCursor(Instant createdAt, long id) {
+
+    public static TransactionCursor of(Transaction tx) {
+        return new TransactionCursor(tx.getCreatedAt(), tx.getId());
+    }
+
+    /**
+     * Whether this position sorts after {@code other} in history order.
+     */
+    public boolean isAfter(TransactionCursor other) {
+        int byTime = createdAt.compareTo(other.createdAt);
+        return byTime > 0 || (byTime == 0 && id > other.id);
+    }
+
+    public String encode() {
+        String raw = createdAt + "," + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a token from {@link #encode}; {@code null} or blank means no cursor.
+     */
+    public static TransactionCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int comma = raw.lastIndexOf(',');
+            return new TransactionCursor(Instant.parse(raw.substring(0, comma)),
+                    Long.parseLong(raw.substring(comma + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException ex) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid transaction cursor.");
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.ClientJob;
+import com.alkicorp.bankingsim.model.ClientLiving;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Transaction;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Rows the in-memory engine changed since its last flush. Only the columns the tick itself owns are written
+ * back, in one JDBC batch per table, so columns edited through the API (names, flags, statuses) are never
+ * overwritten with stale values. Updates are optimistic both ways: each one only applies to the version the
+ * working set was loaded with, so a row a JPA writer committed in the meantime fails the whole flush instead of
+ * being overwritten, and each one bumps the version, so a JPA writer still holding the row from before the flush
+ * fails its own check.
+ */
+final class WriteBehindBuffer implements TickWriter {
+
+    private static final String UPDATE_CLIENT = """
+            update client set version = version + 1, checking_balance = ?, daily_withdrawn = ?,
+              monthly_income_cache = ?, monthly_mandatory_cache = ?, last_spending_day = ?
+            where id = ? and version = ?""";
+    private static final int[] UPDATE_CLIENT_TYPES = {
+            Types.DECIMAL, Types.DECIMAL, Types.DECIMAL, Types.DECIMAL, Types.INTEGER, Types.BIGINT, Types.BIGINT };
+
+    private static final String UPDATE_LOAN = """
+            update loans set version = version + 1, missed_payments = ?, last_payment_status = ?,
+              next_payment_day = ?, updated_at = ?
+            where id = ? and version = ?""";
+    private static final int[] UPDATE_LOAN_TYPES = {
+            Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.TIMESTAMP, Types.BIGINT, Types.BIGINT };
+
+    private static final String UPDATE_MORTGAGE = """
+            update mortgages set version = version + 1, missed_payments = ?, last_payment_status = ?,
+              next_payment_day = ?, total_paid = ?, payments_made = ?, updated_at = ?
+            where id = ? and version = ?""";
+    private static final int[] UPDATE_MORTGAGE_TYPES = {
+            Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.DECIMAL, Types.INTEGER, Types.TIMESTAMP, Types.BIGINT,
+            Types.BIGINT };
+
+    private static final String UPDATE_LIVING = "update client_living set next_rent_day = ? where id = ?";
+    private static final int[] UPDATE_LIVING_TYPES = { Types.INTEGER, Types.BIGINT };
+
+    private static final String UPDATE_JOB = "update client_jobs set next_payday = ? where id = ?";
+    private static final int[] UPDATE_JOB_TYPES = { Types.DOUBLE, Types.BIGINT };
+
+    private static final String INSERT_TRANSACTION = """
+            insert into client_transaction (id, client_id, type, amount, game_day, spending_seq, created_at,
+              bank_state_id)
+            values (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final int[] INSERT_TRANSACTION_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.DECIMAL, Types.INTEGER, Types.INTEGER, Types.TIMESTAMP,
+            Types.BIGINT };
+
+    private static final String INSERT_INVESTMENT_EVENT = """
+            insert into investment_event (id, slot_id, user_id, type, asset, amount, game_day, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)""";
+    private static final int[] INSERT_INVESTMENT_EVENT_TYPES = {
+            Types.BIGINT, Types.INTEGER, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.DECIMAL, Types.INTEGER,
+            Types.TIMESTAMP };
+
+    private static final String UPDATE_BANK_STATE = """
+            update bank_state set version = version + 1, liquid_cash = ?, invested_sp500 = ?, game_day = ?,
+              last_update_timestamp = ?, next_dividend_day = ?, next_growth_day = ?
+            where id = ? and version = ?""";
+
+    /**
+     * Matches the ledger sequences' INCREMENT BY and the entities' allocationSize: each value handed out covers
+     * the block of ids ending at it, exactly as Hibernate's pooled optimizer reads it.
+     */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    // Entities do not override equals, so these sets dedupe by identity.
+    private final Set<Client> clients = new LinkedHashSet<>();
+    private final Set<Loan> loans = new LinkedHashSet<>();
+    private final Set<Mortgage> mortgages = new LinkedHashSet<>();
+    private final Set<ClientLiving> livings = new LinkedHashSet<>();
+    private final Set<ClientJob> jobs = new LinkedHashSet<>();
+    private final List<Transaction> transactions = new ArrayList<>();
+    private final List<InvestmentEvent> investmentEvents = new ArrayList<>();
+
+    @Override
+    public void client(Client client) {
+        clients.add(client);
+    }
+
+    @Override
+    public void loan(Loan loan) {
+        loans.add(loan);
+    }
+
+    @Override
+    public void mortgage(Mortgage mortgage) {
+        mortgages.add(mortgage);
+    }
+
+    @Override
+    public void living(ClientLiving living) {
+        livings.add(living);
+    }
+
+    @Override
+    public void job(ClientJob job) {
+        jobs.add(job);
+    }
+
+    @Override
+    public void transaction(Transaction tx) {
+        transactions.add(tx);
+    }
+
+    @Override
+    public void investmentEvent(InvestmentEvent event) {
+        investmentEvents.add(event);
+    }
+
+    int pendingRows() {
+        return clients.size() + loans.size() + mortgages.size() + livings.size() + jobs.size()
+                + transactions.size() + investmentEvents.size();
+    }
+
+    /**
+     * Writes every pending row plus the bank state. Must run inside the caller's transaction so the bank's
+     * clock only moves forward together with the rows it produced; call {@link #clear()} once it commits.
+     */
+    void writeTo(JdbcTemplate jdbc, BankState state) {
+        requireEveryRow("client", batch(jdbc, UPDATE_CLIENT, UPDATE_CLIENT_TYPES, clients, client -> new Object[] {
+                client.getCheckingBalance(), client.getDailyWithdrawn(), client.getMonthlyIncomeCache(),
+                client.getMonthlyMandatoryCache(), client.getLastSpendingDay(), client.getId(),
+                client.getVersion() }));
+        requireEveryRow("loans", batch(jdbc, UPDATE_LOAN, UPDATE_LOAN_TYPES, loans, loan -> new Object[] {
+                loan.getMissedPayments(), loan.getLastPaymentStatus(), loan.getNextPaymentDay(),
+                timestamp(loan.getUpdatedAt()), loan.getId(), loan.getVersion() }));
+        requireEveryRow("mortgages", batch(jdbc, UPDATE_MORTGAGE, UPDATE_MORTGAGE_TYPES, mortgages,
+                mortgage -> new Object[] {
+                        mortgage.getMissedPayments(), mortgage.getLastPaymentStatus(), mortgage.getNextPaymentDay(),
+                        mortgage.getTotalPaid(), mortgage.getPaymentsMade(), timestamp(mortgage.getUpdatedAt()),
+                        mortgage.getId(), mortgage.getVersion() }));
+        batch(jdbc, UPDATE_LIVING, UPDATE_LIVING_TYPES, livings, living -> new Object[] {
+                living.getNextRentDay(), living.getId() });
+        batch(jdbc, UPDATE_JOB, UPDATE_JOB_TYPES, jobs, job -> new Object[] { job.getNextPayday(), job.getId() });
+        assignIds(jdbc, "client_transaction_seq", transactions, Transaction::setId);
+        assignIds(jdbc, "investment_event_seq", investmentEvents, InvestmentEvent::setId);
+        batch(jdbc, INSERT_TRANSACTION, INSERT_TRANSACTION_TYPES, transactions, tx -> new Object[] {
+                tx.getId(), tx.getClient().getId(), tx.getType().name(), tx.getAmount(), tx.getGameDay(),
+                tx.getSpendingSeq(), timestamp(tx.getCreatedAt()), state.getId() });
+        batch(jdbc, INSERT_INVESTMENT_EVENT, INSERT_INVESTMENT_EVENT_TYPES, investmentEvents, event -> new Object[] {
+                event.getId(), event.getSlotId(), event.getUser().getId(), event.getType().name(), event.getAsset(),
+                event.getAmount(), event.getGameDay(), timestamp(event.getCreatedAt()) });
+        requireEveryRow("bank_state", new int[] { jdbc.update(UPDATE_BANK_STATE, state.getLiquidCash(),
+                state.getInvestedSp500(), state.getGameDay(), timestamp(state.getLastUpdateTimestamp()),
+                state.getNextDividendDay(), state.getNextGrowthDay(), state.getId(), state.getVersion()) });
+    }
+
+    /**
+     * Call once the transaction that ran {@link #writeTo} has committed: moves the held rows to the versions
+     * the flush gave them and empties the buffer.
+     */
+    void committed(BankState state) {
+        clients.forEach(client -> client.setVersion(client.getVersion() + 1));
+        loans.forEach(loan -> loan.setVersion(loan.getVersion() + 1));
+        mortgages.forEach(mortgage -> mortgage.setVersion(mortgage.getVersion() + 1));
+        state.setVersion(state.getVersion() + 1);
+        clear();
+    }
+
+    private void clear() {
+        clients.clear();
+        loans.clear();
+        mortgages.clear();
+        livings.clear();
+        jobs.clear();
+        transactions.clear();
+        investmentEvents.clear();
+    }
+
+    private static <T> int[] batch(JdbcTemplate jdbc, String sql, int[] types, Collection<T> rows,
+            Function<T, Object[]> columns) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (T row : rows) {
+            args.add(columns.apply(row));
+        }
+        return jdbc.batchUpdate(sql, args, types);
+    }
+
+    /**
+     * Fails the flush when a versioned update matched no row: another writer committed that row after the
+     * working set was loaded, and writing over it would lose that change.
+     */
+    private static void requireEveryRow(String table, int[] counts) {
+        for (int count : counts) {
+            if (count == 0) {
+                throw new OptimisticLockingFailureException(
+                        "A " + table + " row changed since the slot was loaded; the flush is rolled back");
+            }
+        }
+    }
+
+    /**
+     * Gives new rows ids from the same sequence Hibernate uses, one sequence call per block of ids.
+     */
+    private static <T> void assignIds(JdbcTemplate jdbc, String sequence, List<T> rows, BiConsumer<T, Long> setId) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int blocks = (rows.size() + ID_BLOCK_SIZE - 1) / ID_BLOCK_SIZE;
+        List<Long> blockEnds = jdbc.queryForList(
+                "select nextval('" + sequence + "') from generate_series(1, ?)", Long.class, blocks);
+        for (int i = 0; i < rows.size(); i++) {
+            long blockEnd = blockEnds.get(i / ID_BLOCK_SIZE);
+            setId.accept(rows.get(i), blockEnd - ID_BLOCK_SIZE + 1 + i % ID_BLOCK_SIZE);
+        }
+    }
+
+    private static Timestamp timestamp(Instant instant) {
+        return instant == null ? null : Timestamp.from(instant);
+    }
+}
@@ -0,0 +1,23 @@
+package com.alkicorp.bankingsim.web;
+
+import com.alkicorp.bankingsim.service.CatalogCacheService;
+import com.alkicorp.bankingsim.web.dto.CacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CatalogCacheService catalogCacheService;
+
+    @GetMapping("/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public CacheStatsResponse stats() {
+        return catalogCacheService.getStats();
+    }
+}
@@ -2,8 +2,10 @@ package com.alkicorp.bankingsim.web;
 
 import com.alkicorp.bankingsim.model.Client;
 import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
 import com.alkicorp.bankingsim.service.ClientService;
 import com.alkicorp.bankingsim.service.ProductService;
+import com.alkicorp.bankingsim.service.TransactionCursor;
 import com.alkicorp.bankingsim.web.dto.ClientResponse;
 import com.alkicorp.bankingsim.web.dto.CreateClientRequest;
 import com.alkicorp.bankingsim.web.dto.MoneyRequest;
@@ -14,6 +16,7 @@ import jakarta.validation.Valid;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,15 +31,16 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class ClientController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String LATEST_CURSOR_HEADER = "X-Latest-Cursor";
+
     private final ClientService clientService;
     private final ProductService productService;
 
     @GetMapping
     @Transactional(readOnly = true)
     public List<ClientResponse> listClients(@PathVariable int slotId) {
-        return clientService.getClients(slotId).stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return clientService.listClients(slotId);
     }
 
     @PostMapping
@@ -53,9 +57,34 @@ public class ClientController {
 
     @GetMapping("/{clientId}/transactions")
     @Transactional(readOnly = true)
-    public List<TransactionResponse> getTransactions(@PathVariable int slotId, @PathVariable Long clientId) {
-        List<Transaction> txs = clientService.getTransactions(clientId, slotId);
-        return txs.stream().map(this::toResponse).collect(Collectors.toList());
+    public ResponseEntity<List<TransactionResponse>> getTransactions(@PathVariable int slotId,
+            @PathVariable Long clientId,
+            @RequestParam(required = false) TransactionType type,
+            @RequestParam(required = false) Integer fromDay,
+            @RequestParam(required = false) Integer toDay,
+            @RequestParam(required = false) String before,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit) {
+        TransactionCursor afterCursor = TransactionCursor.decode(after);
+        List<Transaction> txs = clientService.getTransactions(clientId, slotId, type, fromDay, toDay,
+                TransactionCursor.decode(before), afterCursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        // Older rows continue from the last row of a full page; newer rows from the newest row seen so far,
+        // which only the latest page and an after page know about.
+        if (afterCursor == null && txs.size() == ClientService.transactionPageSize(limit)) {
+            response.header(NEXT_CURSOR_HEADER, TransactionCursor.of(txs.get(txs.size() - 1)).encode());
+        }
+        // An after page also repeats rows behind its cursor, so the cursor only ever moves forward.
+        if (before == null) {
+            TransactionCursor latest = txs.isEmpty() ? null : TransactionCursor.of(txs.get(0));
+            if (afterCursor != null && (latest == null || !latest.isAfter(afterCursor))) {
+                latest = afterCursor;
+            }
+            if (latest != null) {
+                response.header(LATEST_CURSOR_HEADER, latest.encode());
+            }
+        }
+        return response.body(txs.stream().map(this::toResponse).collect(Collectors.toList()));
     }
 
     @GetMapping("/{clientId}/monthly-cashflow")
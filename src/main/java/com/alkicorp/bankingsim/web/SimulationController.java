@@ -0,0 +1,22 @@
+package com.alkicorp.bankingsim.web;
+
+import com.alkicorp.bankingsim.service.SimulationTickStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/simulation")
+@RequiredArgsConstructor
+public class SimulationController {
+
+    private final SimulationTickStats tickStats;
+
+    @GetMapping("/tick-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public SimulationTickStats.Snapshot tickStats() {
+        return tickStats.snapshot();
+    }
+}
@@ -0,0 +1,40 @@
+package com.alkicorp.bankingsim.web;
+
+import com.alkicorp.bankingsim.service.BankService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Catches the request's slot up before the controller calls into a transactional service, so the catch-up's
+ * transaction has committed and returned its connection before the service's transaction takes one.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlotCatchUpInterceptor implements HandlerInterceptor {
+
+    private final BankService bankService;
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        String slotId = variables == null ? null : variables.get("slotId");
+        if (slotId != null) {
+            try {
+                bankService.catchUp(List.of(Integer.parseInt(slotId)));
+            } catch (NumberFormatException ex) {
+                // Not a slot route after all; the handler rejects the path variable itself.
+            }
+        }
+        return true;
+    }
+}
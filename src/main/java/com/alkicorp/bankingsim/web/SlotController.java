@@ -1,12 +1,21 @@
 package com.alkicorp.bankingsim.web;
 
 import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.LedgerExportService;
 import com.alkicorp.bankingsim.web.dto.BankStateResponse;
+import com.alkicorp.bankingsim.web.dto.FastForwardRequest;
+import com.alkicorp.bankingsim.web.dto.FastForwardResponse;
+import com.alkicorp.bankingsim.web.dto.LedgerArchiveResponse;
 import com.alkicorp.bankingsim.web.dto.SlotSummaryResponse;
 import com.alkicorp.bankingsim.web.dto.UpdateMortgageRateRequest;
+import jakarta.servlet.http.HttpServletRequest;
 import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,7 +23,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/slots")
@@ -22,10 +34,16 @@ import org.springframework.web.bind.annotation.RestController;
 public class SlotController {
 
     private final BankService bankService;
+    private final LedgerExportService ledgerExportService;
+
+    @Value("${app.export.timeout-ms:600000}")
+    private long exportTimeoutMs;
 
     @GetMapping
     public List<SlotSummaryResponse> listSlots() {
-        return bankService.getSlotSummaries(Arrays.asList(1, 2, 3));
+        List<Integer> slots = Arrays.asList(1, 2, 3);
+        bankService.catchUp(slots);
+        return bankService.getSlotSummaries(slots);
     }
 
     @PostMapping("/{slotId}/start")
@@ -44,4 +62,35 @@ public class SlotController {
                                                 @RequestBody UpdateMortgageRateRequest request) {
         return bankService.updateMortgageRate(slotId, request.getMortgageRate());
     }
+
+    @PostMapping("/{slotId}/fast-forward")
+    @PreAuthorize("hasRole('ADMIN')")
+    public FastForwardResponse fastForward(@PathVariable int slotId, @RequestBody FastForwardRequest request) {
+        return bankService.fastForward(slotId, request.getDays());
+    }
+
+    @PostMapping("/{slotId}/ledger/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public LedgerArchiveResponse archiveLedger(@PathVariable int slotId, @RequestParam int beforeYear) {
+        return bankService.archiveLedger(slotId, beforeYear);
+    }
+
+    @GetMapping("/{slotId}/ledger/export")
+    public ResponseEntity<StreamingResponseBody> exportLedger(@PathVariable int slotId,
+                                                              @RequestParam(defaultValue = "csv") String format,
+                                                              @RequestParam(defaultValue = "false") boolean gzip,
+                                                              HttpServletRequest request) {
+        LedgerExportService.Format exportFormat = LedgerExportService.Format.parse(format);
+        // Large ledgers stream for longer than other async requests are allowed to run.
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportTimeoutMs);
+        Long bankStateId = ledgerExportService.prepare(slotId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.contentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"slot-" + slotId + "-ledger." + exportFormat.extension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(out -> ledgerExportService.write(bankStateId, exportFormat, gzip, out));
+    }
 }
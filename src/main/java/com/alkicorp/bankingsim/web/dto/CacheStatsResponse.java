@@ -0,0 +1,21 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class CacheStatsResponse {
+    boolean statisticsEnabled;
+    List<Region> regions;
+
+    @Value
+    @Builder
+    public static class Region {
+        String name;
+        long hits;
+        long misses;
+        long puts;
+    }
+}
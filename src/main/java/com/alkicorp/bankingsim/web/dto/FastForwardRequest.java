@@ -0,0 +1,12 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FastForwardRequest {
+    private int days;
+}
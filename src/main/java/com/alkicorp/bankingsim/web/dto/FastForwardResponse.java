@@ -0,0 +1,20 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class FastForwardResponse {
+    int slotId;
+    int days;
+    double fromGameDay;
+    double toGameDay;
+    double elapsedMs;
+    double daysPerSecond;
+    long rowsInserted;
+    long rowsUpdated;
+    Map<String, Double> stageMs;
+    BankStateResponse bank;
+}
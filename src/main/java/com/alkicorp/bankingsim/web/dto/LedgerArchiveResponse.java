@@ -0,0 +1,13 @@
+package com.alkicorp.bankingsim.web.dto;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class LedgerArchiveResponse {
+    int slotId;
+    int archivedBeforeYear;
+    int archivedBeforeDay;
+    long rowsArchived;
+}
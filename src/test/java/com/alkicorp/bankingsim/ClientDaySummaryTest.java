@@ -0,0 +1,79 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.repository.ClientDaySummaryRepository;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ClientDaySummaryTest {
+
+    private static final int TEST_SLOT_ID = 1005;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClientDaySummaryRepository clientDaySummaryRepository;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rollupMatchesTheLedgerAndIsClearedOnReset() {
+        User user = TestUsers.signIn(userRepository, "day-summary-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Client client = clientService.createClient(TEST_SLOT_ID, "Summary");
+        clientService.deposit(TEST_SLOT_ID, client.getId(), new BigDecimal("500.00"));
+        clientService.deposit(TEST_SLOT_ID, client.getId(), new BigDecimal("250.00"));
+        clientService.withdraw(TEST_SLOT_ID, client.getId(), new BigDecimal("100.00"));
+        bankService.fastForward(TEST_SLOT_ID, 12);
+
+        Map<String, BigDecimal> fromLedger = new TreeMap<>();
+        Long bankStateId = client.getBankState().getId();
+        jdbcTemplate.query("""
+            select game_day, type, sum(amount) as total from client_transaction
+            where bank_state_id = ? and client_id = ?
+            group by game_day, type""",
+            (RowCallbackHandler) row -> fromLedger.put(row.getInt("game_day") + "/" + row.getString("type"),
+                row.getBigDecimal("total")),
+            bankStateId, client.getId());
+        Map<String, BigDecimal> fromRollup = new TreeMap<>();
+        for (ClientDaySummaryRepository.SlotDayTotalProjection row
+            : clientDaySummaryRepository.findSlotDayTotals(TEST_SLOT_ID, user.getId())) {
+            fromRollup.put(row.getGameDay() + "/" + row.getType(), row.getTotal());
+        }
+
+        Assertions.assertFalse(fromLedger.isEmpty());
+        Assertions.assertEquals(fromLedger, fromRollup);
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Assertions.assertTrue(clientDaySummaryRepository.findSlotDayTotals(TEST_SLOT_ID, user.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,121 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import com.alkicorp.bankingsim.service.JobService;
+import com.alkicorp.bankingsim.web.ClientController;
+import com.alkicorp.bankingsim.web.dto.ClientResponse;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Lists a slot's clients at two sizes and checks the number of SQL statements does not grow with the clients.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClientListQueryCountTest {
+
+    private static final int TEST_SLOT_ID = 1010;
+    private static final int CLIENTS = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ClientController clientController;
+
+    @Autowired
+    private BankStateRepository bankStateRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void listingClientsTakesTheSameStatementsWhateverTheirNumber() {
+        User user = TestUsers.signIn(userRepository, "client-list-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Job job = jobService.listJobs().stream()
+            .filter(existing -> "List Clerk".equals(existing.getTitle()))
+            .findFirst()
+            .orElseGet(() -> {
+                Job draft = new Job();
+                draft.setTitle("List Clerk");
+                draft.setEmployer("Client List Co");
+                draft.setAnnualSalary(new BigDecimal("36000.00"));
+                draft.setPayCycleDays(30);
+                return jobService.createJob(draft);
+            });
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        addClients(job, CLIENTS, 0);
+        long fewStatements = countListStatements(user, statistics);
+        addClients(job, CLIENTS, CLIENTS);
+        long manyStatements = countListStatements(user, statistics);
+        List<ClientResponse> clients = clientController.listClients(TEST_SLOT_ID);
+
+        Assertions.assertEquals(fewStatements, manyStatements);
+        Assertions.assertEquals(2 * CLIENTS, clients.size());
+        Assertions.assertEquals("List Clerk", clients.get(0).getPrimaryJobTitle());
+        Assertions.assertEquals(job.getId(), clients.get(0).getPrimaryJobId());
+        Assertions.assertNull(clients.get(1).getPrimaryJobTitle());
+        Assertions.assertNotNull(clients.get(1).getGameDay());
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+    }
+
+    /**
+     * Adds clients and gives every other one the job, so the list mixes clients with and without one.
+     */
+    private void addClients(Job job, int count, int offset) {
+        for (int i = offset; i < offset + count; i++) {
+            Client client = clientService.createClient(TEST_SLOT_ID, "Listed " + i);
+            if (i % 2 == 0) {
+                jobService.assignJob(TEST_SLOT_ID, client.getId(), job.getId(), true);
+            }
+        }
+    }
+
+    private long countListStatements(User user, Statistics statistics) {
+        // Settle any payday first, then keep the clock half a day from the next one so both listings advance
+        // the slot the same way.
+        clientController.listClients(TEST_SLOT_ID);
+        BankState state = bankStateRepository.findBySlotIdAndUserId(TEST_SLOT_ID, user.getId()).orElseThrow();
+        state.setGameDay(Math.floor(state.getGameDay()) + 0.5);
+        state.setLastUpdateTimestamp(Instant.now());
+        bankStateRepository.save(state);
+        statistics.clear();
+        clientController.listClients(TEST_SLOT_ID);
+        return statistics.getPrepareStatementCount();
+    }
+}
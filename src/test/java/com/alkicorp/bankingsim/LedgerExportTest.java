@@ -0,0 +1,82 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import com.alkicorp.bankingsim.service.LedgerExportService;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LedgerExportTest {
+
+    private static final int TEST_SLOT_ID = 1006;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LedgerExportService ledgerExportService;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void exportStreamsEveryLedgerRowAsCsvAndGzippedNdjson() throws Exception {
+        TestUsers.signIn(userRepository, "ledger-export-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Client client = clientService.createClient(TEST_SLOT_ID, "Export \"Quoted\"");
+        clientService.deposit(TEST_SLOT_ID, client.getId(), new BigDecimal("500.00"));
+        clientService.withdraw(TEST_SLOT_ID, client.getId(), new BigDecimal("120.50"));
+        bankService.fastForward(TEST_SLOT_ID, 6);
+        int ledgerRows = jdbcTemplate.queryForObject("select count(*) from client_transaction where bank_state_id = ?",
+            Integer.class, client.getBankState().getId());
+
+        Long bankStateId = ledgerExportService.prepare(TEST_SLOT_ID);
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        ledgerExportService.write(bankStateId, LedgerExportService.Format.CSV, false, csv);
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        ledgerExportService.write(bankStateId, LedgerExportService.Format.NDJSON, true, ndjson);
+
+        List<String> csvLines = csv.toString(StandardCharsets.UTF_8).lines().toList();
+        Assertions.assertEquals("id,client_id,client_name,type,amount,game_day,created_at", csvLines.get(0));
+        Assertions.assertEquals(ledgerRows, csvLines.size() - 1);
+        Assertions.assertTrue(csvLines.get(1).contains("\"Export \"\"Quoted\"\"\""));
+        Assertions.assertTrue(csvLines.stream().anyMatch(line -> line.contains(",WITHDRAWAL,120.50,")));
+
+        String unzipped;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(ndjson.toByteArray()))) {
+            unzipped = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        List<String> jsonLines = unzipped.lines().toList();
+        Assertions.assertEquals(ledgerRows, jsonLines.size());
+        Assertions.assertTrue(jsonLines.get(0).startsWith("{\"id\":"));
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+    }
+}
@@ -0,0 +1,103 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ledger insert throughput. Run with {@code mvn test -Dtest=LedgerInsertBenchmarkTest -Dbenchmark=true}.
+ * "Row by row" flushes after every insert, which is what IDENTITY ids forced on the ledger; "batched" lets
+ * Hibernate group the inserts the way the simulation now writes them.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class LedgerInsertBenchmarkTest {
+
+    private static final int TEST_SLOT_ID = 1002;
+    private static final int ROWS = 5_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void batchedLedgerInsertsOutpaceRowByRow() {
+        TestUsers.signIn(userRepository, "benchmark-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Client client = clientService.createClient(TEST_SLOT_ID, "Benchmark");
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        // Warm up connections, statement caches and the id pool.
+        template.executeWithoutResult(status -> insert(client, 500, false));
+
+        long rowByRowNanos = time(() -> template.executeWithoutResult(status -> insert(client, ROWS, true)));
+        long batchedNanos = time(() -> template.executeWithoutResult(status -> insert(client, ROWS, false)));
+
+        System.out.printf("Ledger inserts (%d rows): row by row %.0f rows/s, batched %.0f rows/s%n",
+            ROWS, ROWS / (rowByRowNanos / 1e9), ROWS / (batchedNanos / 1e9));
+        Assertions.assertTrue(batchedNanos < rowByRowNanos, "batched inserts should be faster than row by row");
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+    }
+
+    private void insert(Client client, int rows, boolean flushEachRow) {
+        Client managed = entityManager.getReference(Client.class, client.getId());
+        for (int i = 0; i < rows; i++) {
+            Transaction tx = new Transaction();
+            tx.setClient(managed);
+            tx.setType(TransactionType.SPENDING);
+            tx.setAmount(BigDecimal.valueOf(12.34));
+            tx.setGameDay(i);
+            tx.setCreatedAt(Instant.now());
+            transactionRepository.save(tx);
+            if (flushEachRow) {
+                entityManager.flush();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static long time(Runnable work) {
+        long start = System.nanoTime();
+        work.run();
+        return System.nanoTime() - start;
+    }
+}
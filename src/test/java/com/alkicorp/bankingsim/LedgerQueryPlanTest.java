@@ -0,0 +1,364 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import com.alkicorp.bankingsim.service.LedgerPartitions;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Seeds a slot with a large ledger and checks that every {@code TransactionRepository} query is planned
+ * through an index, and that archived years are pruned from hot reads. Each repository method is called for
+ * real; the statement Hibernate prepares for it is recorded with its binds and EXPLAINed as sent.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LedgerQueryPlanTest {
+
+    private static final int TEST_SLOT_ID = 1007;
+    private static final int CLIENTS = 40;
+    private static final int ROWS_PER_CLIENT = 2_500;
+    private static final List<TransactionType> REPAYMENT_TYPES = List.of(TransactionType.MORTGAGE_PAYMENT,
+        TransactionType.PERSONAL_LOAN_PAYMENT, TransactionType.AUTO_LOAN_PAYMENT,
+        TransactionType.CREDIT_CARD_PAYMENT);
+    private static final ThreadLocal<List<RecordedStatement>> RECORDING = new ThreadLocal<>();
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private BankStateRepository bankStateRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private LedgerPartitions ledgerPartitions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void everyLedgerQueryUsesAnIndex() {
+        User user = TestUsers.signIn(userRepository, "query-plan-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Client client = null;
+        for (int i = 0; i < CLIENTS; i++) {
+            client = clientService.createClient(TEST_SLOT_ID, "Plan " + i);
+        }
+        BankState state = bankStateRepository.findBySlotIdAndUserId(TEST_SLOT_ID, user.getId()).orElseThrow();
+        long bankStateId = state.getId();
+        seedLedger(bankStateId);
+        long clientId = client.getId();
+        Instant cursorTime = Instant.parse("2026-01-01T12:00:00Z");
+        Limit page = Limit.of(100);
+
+        Map<String, RecordedStatement> queries = new LinkedHashMap<>();
+        queries.put("findByBankStateIdAndClientIdAndTypeInOrderByGameDayAscCreatedAtAsc", record(() ->
+            transactionRepository.findByBankStateIdAndClientIdAndTypeInOrderByGameDayAscCreatedAtAsc(bankStateId,
+                clientId, List.of(TransactionType.MORTGAGE_PAYMENT, TransactionType.DEPOSIT))));
+        queries.put("findLatestPageAllDays", record(() -> transactionRepository
+            .findLatestPageAllDays(bankStateId, clientId, null, null, page)));
+        queries.put("findLatestPageFromDay", record(() -> transactionRepository
+            .findLatestPageFromDay(bankStateId, clientId, TransactionType.SPENDING, 10, 90, page)));
+        queries.put("findPageBeforeAllDays", record(() -> transactionRepository
+            .findPageBeforeAllDays(bankStateId, clientId, null, null, cursorTime, Long.MAX_VALUE, page)));
+        queries.put("findPageBeforeFromDay", record(() -> transactionRepository
+            .findPageBeforeFromDay(bankStateId, clientId, null, 10, null, cursorTime, Long.MAX_VALUE, page)));
+        queries.put("findPageAfterAllDays", record(() -> transactionRepository
+            .findPageAfterAllDays(bankStateId, clientId, null, null, cursorTime, 0L, page)));
+        queries.put("findPageAfterFromDay", record(() -> transactionRepository
+            .findPageAfterFromDay(bankStateId, clientId, null, 10, null, cursorTime, 0L, page)));
+        queries.put("findLatestSlotRowsAllDays", record(() -> transactionRepository
+            .findLatestSlotRowsAllDays(bankStateId, REPAYMENT_TYPES, Limit.of(50))));
+        queries.put("findLatestSlotRowsFromDay", record(() -> transactionRepository
+            .findLatestSlotRowsFromDay(bankStateId, 10, REPAYMENT_TYPES, Limit.of(50))));
+
+        Map<String, String> seqScans = new LinkedHashMap<>();
+        queries.forEach((method, statement) -> {
+            String plan = explain(statement);
+            if (plan.contains("Seq Scan on client_transaction")) {
+                seqScans.put(method, statement.sql() + "\n" + plan);
+            }
+        });
+
+        Assertions.assertTrue(seqScans.isEmpty(), () -> "Sequential scans on client_transaction: " + seqScans);
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+    }
+
+    @Test
+    void hotQueriesSkipTheArchivePartition() {
+        User user = TestUsers.signIn(userRepository, "query-plan-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Client client = clientService.createClient(TEST_SLOT_ID, "Archived");
+        BankState state = bankStateRepository.findBySlotIdAndUserId(TEST_SLOT_ID, user.getId()).orElseThrow();
+        long bankStateId = state.getId();
+        seedLedger(bankStateId);
+
+        long archived = ledgerPartitions.archive(bankStateId, 48);
+        // Planned once for any binds, as a reused prepared statement is, so only pruning on the bound fromDay
+        // can keep the archive out.
+        String hotPlan = explainGeneric(record(() -> transactionRepository
+            .findLatestPage(bankStateId, client.getId(), null, 48, null, Limit.of(100))));
+        Integer archivedRows = jdbcTemplate.queryForObject(
+            "select count(*) from client_transaction_bs_" + bankStateId + "_archive", Integer.class);
+
+        Assertions.assertEquals(archived, archivedRows.longValue());
+        Assertions.assertEquals(48 * 25 - 1, archivedRows);
+        Assertions.assertTrue(hotPlan.contains("client_transaction_bs_" + bankStateId + "_hot"), hotPlan);
+        Assertions.assertFalse(hotPlan.contains("_archive"), hotPlan);
+        Assertions.assertTrue(hotPlan.contains("Subplans Removed"), hotPlan);
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Assertions.assertNull(jdbcTemplate.queryForObject(
+            "select to_regclass('client_transaction_bs_" + bankStateId + "_archive')::text", String.class));
+    }
+
+    /**
+     * Runs the repository call and returns the ledger statement it prepared, with the binds it set.
+     */
+    private static RecordedStatement record(Supplier<?> repositoryCall) {
+        List<RecordedStatement> prepared = new ArrayList<>();
+        RECORDING.set(prepared);
+        try {
+            repositoryCall.get();
+        } finally {
+            RECORDING.remove();
+        }
+        return prepared.stream()
+            .filter(statement -> statement.sql().contains("client_transaction"))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No ledger statement was prepared: " + prepared));
+    }
+
+    private String explain(RecordedStatement statement) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement explain = connection.prepareStatement("explain " + statement.sql())) {
+                statement.bind(explain);
+                return planOf(explain);
+            }
+        });
+    }
+
+    /**
+     * EXPLAINs the statement as the generic plan of a prepared statement, the plan the driver settles on once
+     * a statement is reused.
+     */
+    private String explainGeneric(RecordedStatement statement) {
+        List<String> types = new ArrayList<>();
+        StringBuilder sql = new StringBuilder();
+        for (char c : statement.sql().toCharArray()) {
+            if (c == '?') {
+                types.add(statement.typeOf(types.size() + 1));
+                sql.append('$').append(types.size());
+            } else {
+                sql.append(c);
+            }
+        }
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement session = connection.createStatement()) {
+                session.execute("set plan_cache_mode = force_generic_plan");
+                session.execute("prepare ledger_plan (" + String.join(", ", types) + ") as " + sql);
+                String parameters = String.join(", ", Collections.nCopies(types.size(), "?"));
+                try (PreparedStatement explain = connection.prepareStatement(
+                    "explain execute ledger_plan (" + parameters + ")")) {
+                    statement.bind(explain);
+                    return planOf(explain);
+                } finally {
+                    session.execute("deallocate ledger_plan");
+                    session.execute("reset plan_cache_mode");
+                }
+            }
+        });
+    }
+
+    private static String planOf(PreparedStatement explain) throws SQLException {
+        List<String> plan = new ArrayList<>();
+        try (ResultSet rows = explain.executeQuery()) {
+            while (rows.next()) {
+                plan.add(rows.getString(1));
+            }
+        }
+        return String.join("\n", plan);
+    }
+
+    private void seedLedger(long bankStateId) {
+        jdbcTemplate.update("""
+            insert into client_transaction (id, client_id, type, amount, game_day, created_at, bank_state_id)
+            select nextval('client_transaction_seq'), c.id,
+              case when n % 20 = 0 then 'MORTGAGE_PAYMENT' when n % 7 = 0 then 'DEPOSIT' else 'SPENDING' end,
+              (n % 500) + 0.25, n / 25, timestamp '2026-01-01' + n * interval '1 minute', c.bank_state_id
+            from client c, generate_series(1, ?) n
+            where c.bank_state_id = ?""", ROWS_PER_CLIENT, bankStateId);
+        jdbcTemplate.execute("analyze client_transaction");
+        jdbcTemplate.execute("analyze client");
+    }
+
+    /**
+     * A statement as Hibernate prepared it: its SQL and the setter calls that bound its parameters.
+     */
+    private record RecordedStatement(String sql, List<Bind> binds) {
+
+        void bind(PreparedStatement target) throws SQLException {
+            for (Bind bind : binds) {
+                invoke(bind.setter(), target, bind.args());
+            }
+        }
+
+        /**
+         * The Postgres type of the parameter, from the setter Hibernate bound it with.
+         */
+        String typeOf(int index) {
+            Bind bind = binds.stream()
+                .filter(candidate -> candidate.args()[0].equals(index))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("Parameter " + index + " was never bound in " + sql));
+            JDBCType type = switch (bind.setter().getName()) {
+                case "setNull" -> JDBCType.valueOf((Integer) bind.args()[1]);
+                case "setLong" -> JDBCType.BIGINT;
+                case "setInt" -> JDBCType.INTEGER;
+                case "setString" -> JDBCType.VARCHAR;
+                case "setTimestamp" -> JDBCType.TIMESTAMP;
+                case "setObject" -> bind.args().length > 2
+                    ? JDBCType.valueOf((Integer) bind.args()[2]) : JDBCType.OTHER;
+                default -> JDBCType.OTHER;
+            };
+            return switch (type) {
+                case BIGINT -> "bigint";
+                case INTEGER -> "integer";
+                case VARCHAR -> "varchar";
+                case TIMESTAMP -> "timestamp";
+                case TIMESTAMP_WITH_TIMEZONE -> "timestamptz";
+                default -> throw new AssertionError("No Postgres type for " + bind.setter().getName() + " "
+                    + type + " in " + sql);
+            };
+        }
+    }
+
+    private record Bind(Method setter, Object[] args) {
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Wraps the pool so statements prepared while {@link #record} runs are captured, binds included.
+     */
+    @TestConfiguration
+    static class StatementRecordingConfig {
+
+        @Bean
+        static BeanPostProcessor statementRecordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    // Closeable too, so the context still shuts the pool down.
+                    return bean instanceof DataSource dataSource
+                        ? proxy(DataSource.class, dataSource, StatementRecordingConfig::onDataSource, Closeable.class)
+                        : bean;
+                }
+            };
+        }
+
+        private static Object onDataSource(Object target, Method method, Object[] args) throws SQLException {
+            Object result = invoke(method, target, args);
+            return result instanceof Connection connection
+                ? proxy(Connection.class, connection, StatementRecordingConfig::onConnection)
+                : result;
+        }
+
+        private static Object onConnection(Object target, Method method, Object[] args) throws SQLException {
+            Object result = invoke(method, target, args);
+            List<RecordedStatement> recording = RECORDING.get();
+            if (recording == null || !(result instanceof PreparedStatement prepared)
+                    || !method.getName().equals("prepareStatement")) {
+                return result;
+            }
+            List<Bind> binds = new ArrayList<>();
+            recording.add(new RecordedStatement((String) args[0], binds));
+            return proxy(PreparedStatement.class, prepared, (statement, call, callArgs) -> {
+                if (call.getName().startsWith("set") && callArgs != null && callArgs.length > 1
+                        && callArgs[0] instanceof Integer) {
+                    binds.add(new Bind(call, callArgs.clone()));
+                }
+                return invoke(call, statement, callArgs);
+            });
+        }
+
+        private static <T> T proxy(Class<T> type, T target, Interceptor interceptor, Class<?>... alsoIf) {
+            List<Class<?>> types = new ArrayList<>(List.of(type));
+            for (Class<?> other : alsoIf) {
+                if (other.isInstance(target)) {
+                    types.add(other);
+                }
+            }
+            InvocationHandler handler = (proxy, method, args) -> interceptor.call(target, method, args);
+            return type.cast(Proxy.newProxyInstance(LedgerQueryPlanTest.class.getClassLoader(),
+                types.toArray(Class<?>[]::new), handler));
+        }
+
+        @FunctionalInterface
+        private interface Interceptor {
+            Object call(Object target, Method method, Object[] args) throws SQLException;
+        }
+    }
+}
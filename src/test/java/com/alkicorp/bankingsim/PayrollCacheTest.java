@@ -0,0 +1,86 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Job;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import com.alkicorp.bankingsim.service.JobService;
+import com.alkicorp.bankingsim.service.PayrollService;
+import jakarta.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PayrollCacheTest {
+
+    private static final int TEST_SLOT_ID = 1009;
+    private static final int CLIENTS = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private PayrollService payrollService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void payrollReadsJobsFromTheSecondLevelCache() {
+        User user = TestUsers.signIn(userRepository, "payroll-cache-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Job job = jobService.listJobs().stream()
+            .filter(existing -> "Cache Clerk".equals(existing.getTitle()))
+            .findFirst()
+            .orElseGet(() -> {
+                Job draft = new Job();
+                draft.setTitle("Cache Clerk");
+                draft.setEmployer("Payroll Cache Co");
+                draft.setAnnualSalary(new BigDecimal("48000.00"));
+                draft.setPayCycleDays(30);
+                return jobService.createJob(draft);
+            });
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = clientService.createClient(TEST_SLOT_ID, "Payroll " + i);
+            jobService.assignJob(TEST_SLOT_ID, client.getId(), job.getId(), true);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Paydays start at day 1, or 2 if a game day passed during setup; the second run pays everyone again.
+        payrollService.runPayroll(TEST_SLOT_ID, user.getId(), 2.0);
+        statistics.clear();
+
+        payrollService.runPayroll(TEST_SLOT_ID, user.getId(), 3.0);
+
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Job.class.getName()).getLoadCount());
+        Assertions.assertEquals(0, statistics.getEntityStatistics(Job.class.getName()).getFetchCount());
+        Assertions.assertEquals(0, statistics.getDomainDataRegionStatistics(Job.class.getName()).getMissCount());
+        Assertions.assertTrue(statistics.getDomainDataRegionStatistics(Job.class.getName()).getHitCount() > 0);
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+    }
+}
@@ -0,0 +1,126 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Many "requests" polling and depositing into one slot at once: every committed deposit must show up exactly
+ * once in both the ledger and the balance, whatever the interleaving.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SlotConcurrencyTest {
+
+    private static final int TEST_SLOT_ID = 1003;
+    private static final int THREADS = 12;
+    private static final int ROUNDS = 25;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void concurrentPollsAndDepositsConserveMoney() throws Exception {
+        User user = TestUsers.signIn(userRepository, "concurrency-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        Long clientId = clientService.createClient(TEST_SLOT_ID, "Contended").getId();
+
+        AtomicInteger deposits = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            workers.add(pool.submit(() -> {
+                TestUsers.setAuth(user.getUsername());
+                start.await();
+                for (int round = 0; round < ROUNDS; round++) {
+                    // Each iteration is its own request, like the frontend's parallel polls.
+                    RequestContextHolder.setRequestAttributes(
+                        new ServletRequestAttributes(new MockHttpServletRequest()));
+                    try {
+                        // What SlotCatchUpInterceptor does before the controller runs.
+                        bankService.catchUp(List.of(TEST_SLOT_ID));
+                        if ((thread + round) % 3 == 0) {
+                            clientService.deposit(TEST_SLOT_ID, clientId, BigDecimal.ONE);
+                            deposits.incrementAndGet();
+                        } else {
+                            clientService.getClients(TEST_SLOT_ID);
+                            bankService.getBankState(TEST_SLOT_ID);
+                        }
+                    } catch (OptimisticLockingFailureException ex) {
+                        conflicts.incrementAndGet();
+                    } finally {
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(2, TimeUnit.MINUTES);
+        }
+        pool.shutdown();
+
+        Client client = clientRepository.findById(clientId).orElseThrow();
+        BigDecimal ledgerNet = jdbcTemplate.queryForObject("""
+            select coalesce(sum(case when type = 'DEPOSIT' then amount else -amount end), 0)
+            from client_transaction where bank_state_id = ? and client_id = ?""",
+            BigDecimal.class, client.getBankState().getId(), clientId);
+        Long depositRows = jdbcTemplate.queryForObject("""
+            select count(*) from client_transaction
+            where bank_state_id = ? and client_id = ? and type = 'DEPOSIT'""",
+            Long.class, client.getBankState().getId(), clientId);
+
+        Assertions.assertTrue(deposits.get() > 0,
+            "some deposits should commit despite the contention; " + conflicts.get() + " conflicted");
+        Assertions.assertEquals(deposits.get(), depositRows.longValue(), "every committed deposit is in the ledger once");
+        Assertions.assertEquals(0, ledgerNet.compareTo(client.getCheckingBalance()),
+            "balance " + client.getCheckingBalance() + " should equal the ledger net " + ledgerNet);
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+    }
+}
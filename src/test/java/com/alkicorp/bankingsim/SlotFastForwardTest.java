@@ -0,0 +1,55 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import com.alkicorp.bankingsim.web.dto.FastForwardResponse;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SlotFastForwardTest {
+
+    private static final int TEST_SLOT_ID = 1004;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void fastForwardMovesTheSlotClockAndReportsEachStage() {
+        TestUsers.signIn(userRepository, "fast-forward-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        clientService.createClient(TEST_SLOT_ID, "Fast");
+
+        FastForwardResponse first = bankService.fastForward(TEST_SLOT_ID, 24);
+        FastForwardResponse second = bankService.fastForward(TEST_SLOT_ID, 12);
+
+        Assertions.assertEquals(24d, first.getToGameDay() - first.getFromGameDay(), 1e-9);
+        Assertions.assertEquals(first.getToGameDay(), first.getBank().getGameDay(), 1e-9);
+        Assertions.assertTrue(second.getFromGameDay() >= first.getToGameDay(), "days are never replayed twice");
+        Assertions.assertEquals(List.of("load", "replay", "payroll", "discharge", "flush"),
+            List.copyOf(first.getStageMs().keySet()));
+        Assertions.assertThrows(ResponseStatusException.class, () -> bankService.fastForward(TEST_SLOT_ID, 0));
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+    }
+}
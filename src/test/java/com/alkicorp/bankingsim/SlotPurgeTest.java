@@ -0,0 +1,87 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.service.BankService;
+import com.alkicorp.bankingsim.service.ClientService;
+import com.alkicorp.bankingsim.service.LoanService;
+import com.alkicorp.bankingsim.service.SlotPurgeService;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SlotPurgeTest {
+
+    private static final int TEST_SLOT_ID = 1008;
+    private static final int CLIENTS = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BankService bankService;
+
+    @Autowired
+    private ClientService clientService;
+
+    @Autowired
+    private LoanService loanService;
+
+    @Autowired
+    private BankStateRepository bankStateRepository;
+
+    @Autowired
+    private SlotPurgeService slotPurgeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void clearAuthContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void purgeDeletesEveryRowOfTheSlotButItsBankState() {
+        User user = TestUsers.signIn(userRepository, "slot-purge-user");
+        bankService.resetAndGetState(TEST_SLOT_ID);
+        for (int i = 0; i < CLIENTS; i++) {
+            Client client = clientService.createClient(TEST_SLOT_ID, "Purge " + i);
+            clientService.deposit(TEST_SLOT_ID, client.getId(), new BigDecimal("300.00"));
+            loanService.createLoan(TEST_SLOT_ID, client.getId(), new BigDecimal("1000.00"), 5);
+        }
+        bankService.fastForward(TEST_SLOT_ID, 3);
+        BankState state = bankStateRepository.findBySlotIdAndUserId(TEST_SLOT_ID, user.getId()).orElseThrow();
+
+        SlotPurgeService.PurgeReport report = slotPurgeService.purge(user.getId(), TEST_SLOT_ID, state.getId());
+
+        Assertions.assertEquals(CLIENTS, report.rows().get("client"));
+        Assertions.assertEquals(CLIENTS, report.rows().get("loans"));
+        Assertions.assertTrue(report.rows().get("client_day_summary") > 0);
+        Assertions.assertTrue(report.stageMs().containsKey("client_transaction"));
+        Assertions.assertEquals(0, count("select count(*) from client where bank_state_id = ?", state.getId()));
+        Assertions.assertEquals(0, count("select count(*) from client_transaction where bank_state_id = ?",
+            state.getId()));
+        Assertions.assertEquals(0, count("select count(*) from loans where slot_id = ? and user_id = ?",
+            TEST_SLOT_ID, user.getId()));
+        Assertions.assertEquals(1, count("select count(*) from bank_state where id = ?", state.getId()));
+
+        bankService.resetAndGetState(TEST_SLOT_ID);
+    }
+
+    private int count(String sql, Object... args) {
+        Integer count = jdbcTemplate.queryForObject(sql, Integer.class, args);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,41 @@
+package com.alkicorp.bankingsim;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.repository.UserRepository;
+import java.util.List;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Users for the integration tests, which call the services as a signed-in user without going through the API.
+ */
+final class TestUsers {
+
+    private TestUsers() {
+    }
+
+    /**
+     * Finds or creates the user and signs it in on the calling thread.
+     */
+    static User signIn(UserRepository userRepository, String username) {
+        User user = ensureUser(userRepository, username, username + "@example.com");
+        setAuth(user.getUsername());
+        return user;
+    }
+
+    static User ensureUser(UserRepository userRepository, String username, String email) {
+        return userRepository.findByUsernameIgnoreCase(username)
+            .orElseGet(() -> {
+                User user = new User();
+                user.setUsername(username);
+                user.setEmail(email);
+                user.setPasswordHash("test-password-hash");
+                return userRepository.save(user);
+            });
+    }
+
+    static void setAuth(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+            new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
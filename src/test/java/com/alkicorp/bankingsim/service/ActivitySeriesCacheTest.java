@@ -0,0 +1,50 @@
+package com.alkicorp.bankingsim.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ActivitySeriesCacheTest {
+
+    private final ActivitySeriesCache cache = new ActivitySeriesCache();
+
+    @Test
+    void extend_appendsClosedDaysToTheKeptSeries() {
+        ActivitySeriesCache.Series empty = cache.get(1L, 1);
+        cache.extend(1L, 1, empty, empty.append(new long[] {100L, 250L}, new long[] {0L, 40L}, 2));
+
+        ActivitySeriesCache.Series first = cache.get(1L, 1);
+        cache.extend(1L, 1, first, first.append(new long[] {300L, 999L}, new long[] {40L, 999L}, 1));
+        ActivitySeriesCache.Series second = cache.get(1L, 1);
+
+        assertEquals(2, first.days());
+        assertEquals(3, second.days());
+        assertEquals(250L, second.depositsThrough(1));
+        assertEquals(300L, second.depositsThrough(2));
+        assertEquals(40L, second.withdrawalsThrough(2));
+        assertEquals(0L, second.depositsThrough(-1));
+        assertEquals(0, cache.get(1L, 2).days());
+    }
+
+    @Test
+    void extend_dropsASeriesReadBeforeAReset() {
+        ActivitySeriesCache.Series stale = cache.get(1L, 1);
+        cache.invalidate(1L, 1);
+
+        cache.extend(1L, 1, stale, stale.append(new long[] {100L}, new long[] {0L}, 1));
+
+        assertEquals(0, cache.get(1L, 1).days());
+    }
+
+    @Test
+    void extend_keepsOnlyTheFirstOfTwoPollsFromTheSameBase() {
+        ActivitySeriesCache.Series base = cache.get(1L, 1);
+        ActivitySeriesCache.Series winner = base.append(new long[] {100L}, new long[] {0L}, 1);
+
+        cache.extend(1L, 1, base, winner);
+        cache.extend(1L, 1, base, base.append(new long[] {100L, 200L}, new long[] {0L, 0L}, 2));
+
+        assertSame(winner, cache.get(1L, 1));
+    }
+}
@@ -0,0 +1,44 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.web.dto.CacheStatsResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogCacheServiceTest {
+
+    /** Also the service's EntityManagerFactory, which it unwraps to itself. */
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @InjectMocks
+    private CatalogCacheService catalogCacheService;
+
+    @Test
+    void getStats_reportsDisabledStatisticsInsteadOfZeroCounts() {
+        when(sessionFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        CacheStatsResponse stats = catalogCacheService.getStats();
+
+        assertFalse(stats.isStatisticsEnabled());
+        assertTrue(stats.getRegions().isEmpty());
+        verify(statistics).isStatisticsEnabled();
+        verifyNoMoreInteractions(statistics);
+    }
+}
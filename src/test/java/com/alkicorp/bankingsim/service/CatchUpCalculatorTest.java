@@ -0,0 +1,68 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CatchUpCalculatorTest {
+
+    @Test
+    void advanceBank_matchesPerDayLoopOverLongSpans() {
+        Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            int firstDay = 1 + random.nextInt(30);
+            int lastDay = firstDay + random.nextInt(400);
+            BigDecimal cash = BigDecimal.valueOf(random.nextInt(20_000_000), 2);
+            BigDecimal invested = run % 3 == 0 ? BigDecimal.ZERO.setScale(2) : BigDecimal.valueOf(random.nextInt(5_000_000), 2);
+            BigDecimal[] inflows = new BigDecimal[lastDay - firstDay + 1];
+            for (int i = 0; i < inflows.length; i++) {
+                inflows[i] = random.nextBoolean() ? BigDecimal.valueOf(random.nextInt(250_000), 2) : null;
+            }
+
+            CatchUpCalculator.Result fast = CatchUpCalculator.advanceBank(cash, invested, firstDay, lastDay, inflows);
+            CatchUpCalculator.Result reference = CatchUpCalculator.stepBank(cash, invested, firstDay, lastDay, inflows);
+
+            assertEquals(0, reference.liquidCash().compareTo(fast.liquidCash()), "liquid cash, run " + run);
+            assertEquals(0, reference.investedSp500().compareTo(fast.investedSp500()), "invested, run " + run);
+            assertEquals(reference.nextGrowthDay(), fast.nextGrowthDay());
+            assertEquals(reference.nextDividendDay(), fast.nextDividendDay());
+            assertEquals(reference.events().size(), fast.events().size());
+            for (int i = 0; i < reference.events().size(); i++) {
+                assertEquals(reference.events().get(i).type(), fast.events().get(i).type());
+                assertEquals(reference.events().get(i).gameDay(), fast.events().get(i).gameDay());
+                assertEquals(0, reference.events().get(i).amount().compareTo(fast.events().get(i).amount()));
+            }
+        }
+    }
+
+    @Test
+    void advanceBank_recordsGrowthAndDividendOnYearEnd() {
+        CatchUpCalculator.Result result = CatchUpCalculator.advanceBank(
+                new BigDecimal("0.00"), new BigDecimal("1000.00"), 10, 12, null);
+
+        assertEquals(new BigDecimal("1100.00"), result.investedSp500());
+        assertEquals(new BigDecimal("33.83"), result.liquidCash());
+        assertEquals(23, result.nextGrowthDay());
+        assertEquals(23, result.nextDividendDay());
+        assertEquals(InvestmentEventType.GROWTH, result.events().get(0).type());
+        assertEquals(new BigDecimal("100.00"), result.events().get(0).amount());
+        assertEquals(InvestmentEventType.DIVIDEND, result.events().get(1).type());
+        assertEquals(new BigDecimal("33.00"), result.events().get(1).amount());
+    }
+
+    @Test
+    void advanceBank_fallsBackForSubCentBalances() {
+        BigDecimal cash = new BigDecimal("100.005");
+
+        CatchUpCalculator.Result fast = CatchUpCalculator.advanceBank(cash, BigDecimal.ZERO, 1, 5, null);
+        CatchUpCalculator.Result reference = CatchUpCalculator.stepBank(cash, BigDecimal.ZERO, 1, 5, null);
+
+        assertEquals(reference.liquidCash(), fast.liquidCash());
+        assertNull(fast.nextGrowthDay());
+    }
+}
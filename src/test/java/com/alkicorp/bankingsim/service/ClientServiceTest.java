@@ -1,9 +1,12 @@
 package com.alkicorp.bankingsim.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
@@ -11,10 +14,16 @@ import com.alkicorp.bankingsim.auth.model.User;
 import com.alkicorp.bankingsim.auth.service.CurrentUserService;
 import com.alkicorp.bankingsim.model.BankState;
 import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.ClientDaySummaryRepository;
 import com.alkicorp.bankingsim.repository.ClientJobRepository;
 import com.alkicorp.bankingsim.repository.ClientRepository;
 import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.web.dto.ClientResponse;
+import java.time.Instant;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,6 +31,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +40,7 @@ class ClientServiceTest {
 
     private static final int SLOT_ID = 42;
     private static final long CLIENT_ID = 7L;
+    private static final long BANK_STATE_ID = 3L;
 
     @Mock
     private ClientRepository clientRepository;
@@ -37,10 +49,14 @@ class ClientServiceTest {
     @Mock
     private TransactionRepository transactionRepository;
     @Mock
+    private ClientDaySummaryRepository clientDaySummaryRepository;
+    @Mock
     private SimulationService simulationService;
     @Mock
     private CurrentUserService currentUserService;
     @Mock
+    private SimulationRequestContext simulationRequestContext;
+    @Mock
     private User user;
 
     @InjectMocks
@@ -70,19 +86,117 @@ class ClientServiceTest {
         assertThrows(ResponseStatusException.class, () -> clientService.getClients(SLOT_ID));
     }
 
+    @Test
+    void listClients_readsEveryClientAndItsPrimaryJobInOneQuery() {
+        ClientRepository.ClientListRow row = mock(ClientRepository.ClientListRow.class);
+        when(row.getId()).thenReturn(CLIENT_ID);
+        when(row.getPrimaryJobTitle()).thenReturn("Teller");
+        when(row.getGameDay()).thenReturn(12.5);
+        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(new BankState()));
+        when(clientRepository.findListRows(SLOT_ID, user.getId())).thenReturn(List.of(row, row));
+
+        List<ClientResponse> clients = clientService.listClients(SLOT_ID);
+
+        assertEquals(2, clients.size());
+        assertEquals(CLIENT_ID, clients.get(0).getId());
+        assertEquals("Teller", clients.get(0).getPrimaryJobTitle());
+        assertEquals(12.5, clients.get(0).getGameDay());
+        verify(clientRepository).findListRows(SLOT_ID, user.getId());
+        verifyNoMoreInteractions(clientRepository);
+        verifyNoInteractions(clientJobRepository);
+    }
+
     @Test
     void getTransactions_advancesSimulationBeforeFetching() {
         Client client = new Client();
         client.setId(CLIENT_ID);
-        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(new BankState()));
+        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(bankState(null)));
         when(clientRepository.findByIdAndSlotIdAndBankStateUserId(CLIENT_ID, SLOT_ID, user.getId()))
             .thenReturn(Optional.of(client));
-        when(transactionRepository.findByClientOrderByCreatedAtDesc(client)).thenReturn(Collections.emptyList());
+        when(transactionRepository.findLatestPage(BANK_STATE_ID, CLIENT_ID, null, null, null, Limit.of(100)))
+            .thenReturn(Collections.emptyList());
 
         clientService.getTransactions(CLIENT_ID, SLOT_ID);
 
         verify(simulationService).getAndAdvanceState(user, SLOT_ID);
         verify(clientRepository).findByIdAndSlotIdAndBankStateUserId(CLIENT_ID, SLOT_ID, user.getId());
-        verify(transactionRepository).findByClientOrderByCreatedAtDesc(client);
+        verify(transactionRepository).findLatestPage(BANK_STATE_ID, CLIENT_ID, null, null, null, Limit.of(100));
+    }
+
+    @Test
+    void getTransactions_startsAtTheArchiveBoundaryUnlessAskedForEarlierDays() {
+        Client client = new Client();
+        client.setId(CLIENT_ID);
+        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(bankState(24)));
+        when(clientRepository.findByIdAndSlotIdAndBankStateUserId(CLIENT_ID, SLOT_ID, user.getId()))
+            .thenReturn(Optional.of(client));
+
+        clientService.getTransactions(CLIENT_ID, SLOT_ID);
+        clientService.getTransactions(CLIENT_ID, SLOT_ID, null, 0, null, null, null, null);
+
+        verify(transactionRepository).findLatestPage(BANK_STATE_ID, CLIENT_ID, null, 24, null, Limit.of(100));
+        verify(transactionRepository).findLatestPage(BANK_STATE_ID, CLIENT_ID, null, 0, null, Limit.of(100));
+    }
+
+    @Test
+    void getTransactions_afterCursorReturnsNewerRowsNewestFirstWithinTheCap() {
+        Client client = new Client();
+        client.setId(CLIENT_ID);
+        TransactionCursor cursor = new TransactionCursor(Instant.parse("2026-01-01T00:00:00Z"), 10L);
+        Transaction older = transaction(11L);
+        Transaction newer = transaction(12L);
+        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(bankState(null)));
+        when(clientRepository.findByIdAndSlotIdAndBankStateUserId(CLIENT_ID, SLOT_ID, user.getId()))
+            .thenReturn(Optional.of(client));
+        when(transactionRepository.findPageAfter(BANK_STATE_ID, CLIENT_ID, TransactionType.SPENDING, 3, 5,
+            cursor.createdAt(), 10L, Limit.of(500)))
+            .thenReturn(List.of(older, newer));
+
+        List<Transaction> page = clientService.getTransactions(CLIENT_ID, SLOT_ID, TransactionType.SPENDING, 3, 5,
+            null, cursor, 10_000);
+
+        assertEquals(List.of(newer, older), page);
+    }
+
+    @Test
+    void getTransactions_afterCursorRepeatsRowsWithinTheLookback() {
+        ReflectionTestUtils.setField(clientService, "afterLookbackMs", 60_000L);
+        Client client = new Client();
+        client.setId(CLIENT_ID);
+        TransactionCursor cursor = new TransactionCursor(Instant.parse("2026-01-01T00:00:00Z"), 10L);
+        Transaction newer = transaction(12L);
+        newer.setCreatedAt(Instant.parse("2026-01-01T00:00:05Z"));
+        Transaction lateCommit = transaction(14L);
+        lateCommit.setCreatedAt(Instant.parse("2025-12-31T23:59:30Z"));
+        Transaction settled = transaction(3L);
+        settled.setCreatedAt(Instant.parse("2025-12-31T23:58:00Z"));
+        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(bankState(null)));
+        when(clientRepository.findByIdAndSlotIdAndBankStateUserId(CLIENT_ID, SLOT_ID, user.getId()))
+            .thenReturn(Optional.of(client));
+        when(transactionRepository.findPageAfter(BANK_STATE_ID, CLIENT_ID, null, null, null,
+            cursor.createdAt(), 10L, Limit.of(100)))
+            .thenReturn(List.of(newer));
+        when(transactionRepository.findPageBefore(BANK_STATE_ID, CLIENT_ID, null, null, null,
+            cursor.createdAt(), 10L, Limit.of(100)))
+            .thenReturn(List.of(lateCommit, settled));
+
+        List<Transaction> page = clientService.getTransactions(CLIENT_ID, SLOT_ID, null, null, null,
+            null, cursor, null);
+
+        assertEquals(List.of(newer, lateCommit), page);
+    }
+
+    private static BankState bankState(Integer archivedBeforeDay) {
+        BankState state = new BankState();
+        state.setId(BANK_STATE_ID);
+        state.setLedgerArchivedBeforeDay(archivedBeforeDay);
+        return state;
+    }
+
+    private static Transaction transaction(long id) {
+        Transaction tx = new Transaction();
+        tx.setId(id);
+        tx.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z"));
+        return tx;
     }
 }
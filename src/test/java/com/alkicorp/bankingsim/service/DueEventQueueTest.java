@@ -0,0 +1,50 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Loan;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DueEventQueueTest {
+
+    @Test
+    void pollDue_returnsOnlyRowsThatFellDueInTheirOriginalOrder() {
+        Loan later = loanDueOn(5);
+        Loan overdue = loanDueOn(1);
+        Loan undated = loanDueOn(null);
+        Loan today = loanDueOn(3);
+        DueEventQueue<Loan> queue = new DueEventQueue<>(List.of(later, overdue, undated, today),
+                Loan::getNextPaymentDay);
+
+        assertTrue(queue.pollDue(0).isEmpty());
+        queue.requeue(0);
+        assertEquals(List.of(overdue, today), queue.pollDue(3));
+    }
+
+    @Test
+    void requeue_schedulesRowsUnderTheirNewDueDay() {
+        Loan monthly = loanDueOn(1);
+        Loan stuck = loanDueOn(1);
+        Loan paidOff = loanDueOn(1);
+        DueEventQueue<Loan> queue = new DueEventQueue<>(List.of(monthly, stuck, paidOff), Loan::getNextPaymentDay);
+
+        assertEquals(3, queue.pollDue(1).size());
+        monthly.setNextPaymentDay(4);
+        paidOff.setNextPaymentDay(null);
+        queue.requeue(1);
+
+        assertEquals(List.of(stuck), queue.pollDue(2), "a row that did not move is retried the next day");
+        queue.requeue(2);
+        assertEquals(List.of(stuck), queue.pollDue(3));
+        queue.requeue(3);
+        assertEquals(List.of(monthly, stuck), queue.pollDue(4));
+    }
+
+    private static Loan loanDueOn(Integer day) {
+        Loan loan = new Loan();
+        loan.setNextPaymentDay(day);
+        return loan;
+    }
+}
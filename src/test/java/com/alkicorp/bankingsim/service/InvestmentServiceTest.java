@@ -0,0 +1,130 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.auth.service.CurrentUserService;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.InvestmentEvent;
+import com.alkicorp.bankingsim.model.enums.InvestmentEventType;
+import com.alkicorp.bankingsim.model.enums.TransactionType;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import com.alkicorp.bankingsim.repository.ClientDaySummaryRepository;
+import com.alkicorp.bankingsim.repository.InvestmentEventRepository;
+import com.alkicorp.bankingsim.repository.TransactionRepository;
+import com.alkicorp.bankingsim.web.dto.InvestmentEventResponse;
+import com.alkicorp.bankingsim.web.dto.InvestmentStateResponse;
+import com.alkicorp.bankingsim.web.dto.RepaymentIncomeResponse;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+@ExtendWith(MockitoExtension.class)
+class InvestmentServiceTest {
+
+    private static final int SLOT_ID = 2;
+    private static final long USER_ID = 9L;
+    private static final long BANK_STATE_ID = 5L;
+    private static final List<TransactionType> REPAYMENT_TYPES = List.of(TransactionType.MORTGAGE_PAYMENT,
+        TransactionType.PERSONAL_LOAN_PAYMENT, TransactionType.AUTO_LOAN_PAYMENT,
+        TransactionType.CREDIT_CARD_PAYMENT);
+
+    @Mock
+    private SimulationService simulationService;
+    @Mock
+    private BankStateRepository bankStateRepository;
+    @Mock
+    private InvestmentEventRepository investmentEventRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private ClientDaySummaryRepository clientDaySummaryRepository;
+    @Mock
+    private CurrentUserService currentUserService;
+
+    @InjectMocks
+    private InvestmentService investmentService;
+
+    @Test
+    void responseReadsTheLatestFiftyOfEachHistoryInRepositoryOrder() {
+        User user = new User();
+        user.setId(USER_ID);
+        BankState state = bankState(user);
+        InvestmentEvent divest = event(InvestmentEventType.DIVEST, "40.00", 30);
+        InvestmentEvent invest = event(InvestmentEventType.INVEST, "100.00", 12);
+        TransactionRepository.SlotRowProjection mortgage = repayment("Ada", TransactionType.MORTGAGE_PAYMENT,
+            "950.00", 30);
+        TransactionRepository.SlotRowProjection card = repayment("Bo", TransactionType.CREDIT_CARD_PAYMENT,
+            "75.50", 29);
+        ClientDaySummaryRepository.SlotTotalProjection totals =
+            mock(ClientDaySummaryRepository.SlotTotalProjection.class);
+        when(totals.getTotal()).thenReturn(new BigDecimal("4025.50"));
+        when(totals.getOnDay()).thenReturn(new BigDecimal("950.00"));
+        when(currentUserService.getCurrentUser()).thenReturn(user);
+        when(simulationService.getAndAdvanceState(user, SLOT_ID)).thenReturn(Optional.of(state));
+        when(investmentEventRepository.findBySlotIdAndUserIdOrderByGameDayDescCreatedAtDesc(SLOT_ID, USER_ID,
+            Limit.of(50))).thenReturn(List.of(divest, invest));
+        when(transactionRepository.findLatestSlotRows(BANK_STATE_ID, 24, REPAYMENT_TYPES, Limit.of(50)))
+            .thenReturn(List.of(mortgage, card));
+        when(clientDaySummaryRepository.findSlotTotal(SLOT_ID, USER_ID, REPAYMENT_TYPES, 30)).thenReturn(totals);
+
+        InvestmentStateResponse response = investmentService.getInvestmentStateResponse(SLOT_ID);
+
+        assertEquals(List.of("DIVEST", "INVEST"),
+            response.getHistory().stream().map(InvestmentEventResponse::getType).toList());
+        assertEquals(new BigDecimal("40.00"), response.getHistory().get(0).getAmount());
+        assertEquals("S&P 500", response.getHistory().get(0).getAsset());
+        assertEquals(30, response.getHistory().get(0).getGameDay());
+        assertEquals(List.of("Ada", "Bo"),
+            response.getRepaymentIncome().stream().map(RepaymentIncomeResponse::getClientName).toList());
+        RepaymentIncomeResponse latest = response.getRepaymentIncome().get(0);
+        assertEquals(TransactionType.MORTGAGE_PAYMENT, latest.getType());
+        assertEquals(new BigDecimal("950.00"), latest.getAmount());
+        assertEquals(30, latest.getGameDay());
+        assertEquals(Instant.parse("2026-01-01T00:00:30Z"), latest.getCreatedAt());
+        assertEquals(new BigDecimal("4025.50"), response.getRepaymentIncomeTotal());
+        assertEquals(new BigDecimal("950.00"), response.getRepaymentIncomeCurrentMonth());
+    }
+
+    private static BankState bankState(User user) {
+        BankState state = new BankState();
+        state.setId(BANK_STATE_ID);
+        state.setSlotId(SLOT_ID);
+        state.setUser(user);
+        state.setGameDay(30.4);
+        state.setNextDividendDay(60);
+        state.setNextGrowthDay(31);
+        state.setLedgerArchivedBeforeDay(24);
+        return state;
+    }
+
+    private static InvestmentEvent event(InvestmentEventType type, String amount, int gameDay) {
+        InvestmentEvent event = new InvestmentEvent();
+        event.setType(type);
+        event.setAsset("S&P 500");
+        event.setAmount(new BigDecimal(amount));
+        event.setGameDay(gameDay);
+        event.setCreatedAt(Instant.parse("2026-01-01T00:00:00Z").plusSeconds(gameDay));
+        return event;
+    }
+
+    private static TransactionRepository.SlotRowProjection repayment(String clientName, TransactionType type,
+            String amount, int gameDay) {
+        TransactionRepository.SlotRowProjection row = mock(TransactionRepository.SlotRowProjection.class);
+        when(row.getClientName()).thenReturn(clientName);
+        when(row.getType()).thenReturn(type);
+        when(row.getAmount()).thenReturn(new BigDecimal(amount));
+        when(row.getGameDay()).thenReturn(gameDay);
+        when(row.getCreatedAt()).thenReturn(Instant.parse("2026-01-01T00:00:00Z").plusSeconds(gameDay));
+        return row;
+    }
+}
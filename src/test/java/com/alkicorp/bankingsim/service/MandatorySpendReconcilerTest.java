@@ -0,0 +1,68 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.repository.BankStateRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class MandatorySpendReconcilerTest {
+
+    private static final long USER_ID = 4L;
+    private static final int SLOT_ID = 2;
+
+    @Mock
+    private BankStateRepository bankStateRepository;
+    @Mock
+    private TickProcessor tickProcessor;
+    @Mock
+    private MandatorySpendService mandatorySpendService;
+    @Mock
+    private InMemorySlotEngine inMemorySlotEngine;
+    @Mock
+    private JpaTickWriter jpaTickWriter;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private MandatorySpendReconciler reconciler;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void slotHeldByTheEngineIsCorrectedInItsWorkingSet() {
+        Client drifted = new Client();
+        drifted.setId(11L);
+        drifted.setMonthlyMandatoryCache(new BigDecimal("100.00"));
+        SlotWorkingSet set = new SlotWorkingSet(new BankState(), List.of(drifted), List.of(), List.of(), List.of(),
+            List.of());
+        when(mandatorySpendService.compute(eq(drifted), any(), any(), any())).thenReturn(new BigDecimal("250.00"));
+        TickWriter buffer = mock(TickWriter.class);
+        when(inMemorySlotEngine.updateResident(eq(USER_ID), eq(SLOT_ID), any())).thenAnswer(invocation ->
+            Optional.of(invocation.getArgument(2, BiFunction.class).apply(set, buffer)));
+
+        int corrected = reconciler.reconcile(USER_ID, SLOT_ID);
+
+        assertEquals(1, corrected);
+        assertEquals(new BigDecimal("250.00"), drifted.getMonthlyMandatoryCache());
+        verify(buffer).client(drifted);
+        verify(inMemorySlotEngine).updateResident(eq(USER_ID), eq(SLOT_ID), any());
+        verifyNoInteractions(bankStateRepository, transactionManager, jpaTickWriter);
+    }
+}
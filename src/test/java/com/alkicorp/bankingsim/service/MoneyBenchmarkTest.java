@@ -0,0 +1,96 @@
+package com.alkicorp.bankingsim.service;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+/**
+ * Spending-split arithmetic, BigDecimal as it used to be written against {@link Money}. Run with
+ * {@code mvn test -Dtest=MoneyBenchmarkTest -Dbenchmark=true}. Both sides draw the same random weights, so
+ * the difference is the arithmetic alone.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MoneyBenchmarkTest {
+
+    private static final int SPLITS = SimulationConstants.SPENDING_EVENTS_PER_MONTH;
+    private static final int ROUNDS = 2_000_000;
+
+    @Test
+    void moneySplitsOutpaceBigDecimalSplits() {
+        // Warm up both paths so the JIT has compiled them before timing.
+        bigDecimalRounds(ROUNDS / 4);
+        moneyRounds(ROUNDS / 4);
+
+        long bigDecimalStart = System.nanoTime();
+        long bigDecimalSum = bigDecimalRounds(ROUNDS);
+        long bigDecimalNanos = System.nanoTime() - bigDecimalStart;
+        long moneyStart = System.nanoTime();
+        long moneySum = moneyRounds(ROUNDS);
+        long moneyNanos = System.nanoTime() - moneyStart;
+
+        System.out.printf("Spending splits (%d rounds): BigDecimal %.1f ns/round, Money %.1f ns/round%n",
+            ROUNDS, bigDecimalNanos / (double) ROUNDS, moneyNanos / (double) ROUNDS);
+        Assertions.assertEquals(bigDecimalSum, moneySum, "both paths split the same totals");
+        Assertions.assertTrue(moneyNanos < bigDecimalNanos, "long cents should beat BigDecimal");
+    }
+
+    private static long bigDecimalRounds(int rounds) {
+        Random random = new Random(1);
+        long sum = 0L;
+        for (int round = 0; round < rounds; round++) {
+            BigDecimal balance = BigDecimal.valueOf(random.nextInt(1_000_000), 2);
+            BigDecimal total = BigDecimal.valueOf(random.nextInt(100_000), 2).min(balance);
+            double[] weights = weights(random);
+            double weightSum = weights[SPLITS];
+            BigDecimal remaining = total;
+            for (int i = 0; i < SPLITS; i++) {
+                BigDecimal portion = remaining;
+                if (i < SPLITS - 1) {
+                    portion = total.multiply(BigDecimal.valueOf(weights[i] / weightSum))
+                        .setScale(2, RoundingMode.HALF_UP).min(remaining);
+                    remaining = remaining.subtract(portion);
+                }
+                BigDecimal amount = portion.min(balance).setScale(2, RoundingMode.HALF_UP);
+                balance = balance.subtract(amount);
+            }
+            sum += balance.unscaledValue().longValue();
+        }
+        return sum;
+    }
+
+    private static long moneyRounds(int rounds) {
+        Random random = new Random(1);
+        long sum = 0L;
+        for (int round = 0; round < rounds; round++) {
+            Money balance = Money.ofCents(random.nextInt(1_000_000));
+            Money total = Money.ofCents(random.nextInt(100_000)).min(balance);
+            double[] weights = weights(random);
+            double weightSum = weights[SPLITS];
+            Money remaining = total;
+            for (int i = 0; i < SPLITS; i++) {
+                Money portion = remaining;
+                if (i < SPLITS - 1) {
+                    portion = total.times(weights[i] / weightSum, RoundingMode.HALF_UP).min(remaining);
+                    remaining = remaining.minus(portion);
+                }
+                balance = balance.minus(portion.min(balance));
+            }
+            sum += balance.cents();
+        }
+        return sum;
+    }
+
+    /** The split weights followed by their sum. */
+    private static double[] weights(Random random) {
+        double[] weights = new double[SPLITS + 1];
+        for (int i = 0; i < SPLITS; i++) {
+            weights[i] = 0.5 + random.nextDouble();
+            weights[SPLITS] += weights[i];
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,66 @@
+package com.alkicorp.bankingsim.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyTest {
+
+    @Test
+    void times_roundsLikeBigDecimalInEveryMode() {
+        Random random = new Random(7);
+        for (int run = 0; run < 10_000; run++) {
+            long cents = random.nextLong(-10_000_000L, 10_000_000L);
+            long numerator = random.nextLong(-5_000L, 5_000L);
+            long denominator = random.nextBoolean() ? 10_000L : random.nextLong(1L, 997L);
+            for (RoundingMode mode : RoundingMode.values()) {
+                if (mode == RoundingMode.UNNECESSARY) {
+                    continue;
+                }
+                long expected = BigDecimal.valueOf(cents).multiply(BigDecimal.valueOf(numerator))
+                        .divide(BigDecimal.valueOf(denominator), 0, mode).longValueExact();
+                assertEquals(expected, Money.ofCents(cents).times(numerator, denominator, mode).cents(),
+                        cents + " * " + numerator + " / " + denominator + " " + mode);
+            }
+        }
+    }
+
+    @Test
+    void conversions_keepWholeCentsAndRoundOnlyWhenAsked() {
+        assertEquals(new BigDecimal("12.34"), Money.of(new BigDecimal("12.34")).toBigDecimal());
+        assertEquals(new BigDecimal("100.00"), Money.of(BigDecimal.valueOf(100.0)).toBigDecimal());
+        assertEquals(Money.ZERO, Money.of(null));
+        assertEquals(1235L, Money.of(new BigDecimal("12.345"), RoundingMode.HALF_UP).cents());
+        assertEquals(-1235L, Money.of(new BigDecimal("-12.345"), RoundingMode.HALF_UP).cents());
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("12.345")));
+    }
+
+    @Test
+    void times_byDoubleRoundsHalfUpLikeBigDecimalValueOf() {
+        Random random = new Random(11);
+        for (int run = 0; run < 10_000; run++) {
+            long cents = random.nextLong(0L, 100_000_000L);
+            double factor = random.nextDouble();
+            long expected = BigDecimal.valueOf(cents, 2).multiply(BigDecimal.valueOf(factor))
+                    .setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            long actual = Money.ofCents(cents).times(factor, RoundingMode.HALF_UP).cents();
+            // A double product can land a hair either side of an exact half cent.
+            assertEquals(expected, actual, 1L, cents + " * " + factor);
+        }
+    }
+
+    @Test
+    void arithmetic_throwsInsteadOfOverflowing() {
+        Money max = Money.ofCents(Long.MAX_VALUE);
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(Long.MIN_VALUE).minus(Money.ofCents(1)));
+        assertThrows(ArithmeticException.class, () -> max.times(2, 1, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> max.times(2.0, RoundingMode.HALF_UP));
+        assertThrows(ArithmeticException.class, () -> Money.ofCents(5).times(1, 2, RoundingMode.UNNECESSARY));
+    }
+}
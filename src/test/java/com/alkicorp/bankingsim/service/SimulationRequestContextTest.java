@@ -0,0 +1,110 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SimulationRequestContextTest {
+
+    private static final long USER_ID = 3L;
+    private static final int SLOT_ID = 7;
+
+    private final SimulationRequestContext context = new SimulationRequestContext();
+
+    @BeforeEach
+    void startRequestAndTransaction() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void endRequestAndTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void slot_isAdvancedOncePerRequest() {
+        BankState state = new BankState();
+
+        SimulationRequestContext.SlotMemo first = context.slot(USER_ID, SLOT_ID);
+        assertFalse(first.isAdvanced());
+        first.advanced(state);
+
+        SimulationRequestContext.SlotMemo second = context.slot(USER_ID, SLOT_ID);
+        assertTrue(second.isAdvanced());
+        assertSame(state, second.state());
+        assertEquals(1, context.counters().getAdvances());
+        assertEquals(1, context.counters().getHits());
+    }
+
+    @Test
+    void state_isDroppedWhenItsTransactionCompletes() {
+        context.slot(USER_ID, SLOT_ID).advanced(new BankState());
+
+        completeTransaction();
+        TransactionSynchronizationManager.initSynchronization();
+
+        SimulationRequestContext.SlotMemo memo = context.slot(USER_ID, SLOT_ID);
+        assertTrue(memo.isAdvanced(), "a later transaction reloads instead of advancing again");
+        assertNull(memo.state());
+    }
+
+    @Test
+    void advancedBeforeTransaction_makesTheTransactionReload() {
+        context.slot(USER_ID, SLOT_ID).advancedBeforeTransaction();
+
+        SimulationRequestContext.SlotMemo memo = context.slot(USER_ID, SLOT_ID);
+        assertTrue(memo.isAdvanced());
+        assertNull(memo.state());
+        assertEquals(1, context.counters().getAdvances());
+    }
+
+    @Test
+    void clients_areLoadedOncePerTransaction() {
+        AtomicInteger loads = new AtomicInteger();
+        List<Client> clients = List.of(new Client());
+
+        assertSame(clients, context.clients(USER_ID, SLOT_ID, () -> { loads.incrementAndGet(); return clients; }));
+        assertSame(clients, context.clients(USER_ID, SLOT_ID, () -> { loads.incrementAndGet(); return clients; }));
+        assertEquals(1, loads.get());
+
+        context.clientsChanged(USER_ID, SLOT_ID);
+        context.clients(USER_ID, SLOT_ID, () -> { loads.incrementAndGet(); return clients; });
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void nothingIsMemoizedOutsideARequest() {
+        RequestContextHolder.resetRequestAttributes();
+        AtomicInteger loads = new AtomicInteger();
+
+        assertNull(context.slot(USER_ID, SLOT_ID));
+        context.clients(USER_ID, SLOT_ID, () -> { loads.incrementAndGet(); return List.of(); });
+        context.clients(USER_ID, SLOT_ID, () -> { loads.incrementAndGet(); return List.of(); });
+        assertEquals(2, loads.get());
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,68 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.model.BankState;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SimulationTickerTest {
+
+    @Mock
+    private SimulationService simulationService;
+    @Mock
+    private ActiveSlotRegistry activeSlotRegistry;
+    @Mock
+    private SimulationTickStats tickStats;
+    @Mock
+    private InMemorySlotEngine inMemorySlotEngine;
+
+    @InjectMocks
+    private SimulationTicker simulationTicker;
+
+    @Test
+    void tick_advancesEveryActiveSlotAndRecordsCost() {
+        when(activeSlotRegistry.activeSlots()).thenReturn(List.of(
+                new ActiveSlotRegistry.SlotKey(1L, 1),
+                new ActiveSlotRegistry.SlotKey(2L, 3)));
+        when(simulationService.advanceSlot(1L, 1)).thenReturn(Optional.of(new BankState()));
+        when(simulationService.advanceSlot(2L, 3)).thenThrow(new IllegalStateException("boom"));
+
+        simulationTicker.tick();
+
+        verify(simulationService).advanceSlot(1L, 1);
+        verify(simulationService).advanceSlot(2L, 3);
+        verify(activeSlotRegistry, never()).remove(1L, 1);
+        verify(tickStats).recordTick(eq(2), eq(1), anyLong());
+    }
+
+    @Test
+    void tick_dropsSlotsThatNoLongerExist() {
+        when(activeSlotRegistry.activeSlots()).thenReturn(List.of(new ActiveSlotRegistry.SlotKey(1L, 2)));
+        when(simulationService.advanceSlot(1L, 2)).thenReturn(Optional.empty());
+
+        simulationTicker.tick();
+
+        verify(activeSlotRegistry).remove(1L, 2);
+    }
+
+    @Test
+    void tick_skipsWorkWhenNoSlotIsActive() {
+        when(activeSlotRegistry.activeSlots()).thenReturn(List.of());
+
+        simulationTicker.tick();
+
+        verifyNoInteractions(simulationService, tickStats);
+    }
+}
@@ -0,0 +1,67 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.SpendingCategory;
+import com.alkicorp.bankingsim.repository.SpendingCategoryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SpendingCategoryCatalogTest {
+
+    @Mock
+    private SpendingCategoryRepository spendingCategoryRepository;
+
+    @InjectMocks
+    private SpendingCategoryCatalog catalog;
+
+    @Test
+    void active_loadsOnceAndKeepsOnlyDefaultActiveCategories() {
+        when(spendingCategoryRepository.findAllByOrderByIdAsc())
+                .thenReturn(List.of(category(1L, true), category(2L, false), category(3L, true)));
+
+        List<SpendingCategoryCatalog.ActiveCategory> first = catalog.active();
+        List<SpendingCategoryCatalog.ActiveCategory> second = catalog.active();
+
+        assertEquals(List.of(1L, 3L), first.stream().map(SpendingCategoryCatalog.ActiveCategory::id).toList());
+        assertEquals(0.05, first.get(0).minPctIncome(), 1e-12);
+        assertEquals(0.15, first.get(0).maxPctIncome(), 1e-12);
+        assertEquals(first, second);
+        verify(spendingCategoryRepository, times(1)).findAllByOrderByIdAsc();
+    }
+
+    @Test
+    void save_dropsTheCachedSet() {
+        SpendingCategory edited = category(2L, true);
+        when(spendingCategoryRepository.findAllByOrderByIdAsc())
+                .thenReturn(List.of(category(1L, true)))
+                .thenReturn(List.of(category(1L, true), edited));
+        when(spendingCategoryRepository.save(edited)).thenReturn(edited);
+
+        assertEquals(1, catalog.active().size());
+        catalog.save(edited);
+
+        assertEquals(2, catalog.active().size());
+        verify(spendingCategoryRepository, times(2)).findAllByOrderByIdAsc();
+    }
+
+    private static SpendingCategory category(Long id, boolean active) {
+        SpendingCategory category = new SpendingCategory();
+        category.setId(id);
+        category.setMinPctIncome(new BigDecimal("0.0500"));
+        category.setMaxPctIncome(new BigDecimal("0.1500"));
+        category.setVariability(new BigDecimal("0.1000"));
+        category.setDefaultActive(active);
+        return category;
+    }
+}
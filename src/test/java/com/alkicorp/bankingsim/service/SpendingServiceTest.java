@@ -0,0 +1,48 @@
+package com.alkicorp.bankingsim.service;
+
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Transaction;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class SpendingServiceTest {
+
+    private static final long SEED = 20240611L;
+    private static final List<SpendingCategoryCatalog.ActiveCategory> CATEGORIES = List.of(
+            new SpendingCategoryCatalog.ActiveCategory(1L, 0.05, 0.15, 0.2),
+            new SpendingCategoryCatalog.ActiveCategory(2L, 0.02, 0.08, 0d));
+
+    private final SpendingService spendingService = new SpendingService(null, null, null, null, null);
+
+    @Test
+    void spend_replaysIdenticallyFromTheSameSeed() {
+        List<BigDecimal> first = amounts(SEED, 7L, 3);
+        List<BigDecimal> again = amounts(SEED, 7L, 3);
+
+        assertEquals(4 * CATEGORIES.size(), first.size());
+        assertEquals(first, again);
+    }
+
+    @Test
+    void spend_drawsAnIndependentStreamPerClientAndDay() {
+        List<BigDecimal> base = amounts(SEED, 7L, 3);
+
+        assertNotEquals(base, amounts(SEED, 8L, 3), "another client");
+        assertNotEquals(base, amounts(SEED, 7L, 4), "another day");
+        assertNotEquals(base, amounts(SEED + 1, 7L, 3), "another seed");
+    }
+
+    private List<BigDecimal> amounts(long seed, long clientId, int day) {
+        Client client = new Client();
+        client.setId(clientId);
+        client.setCheckingBalance(new BigDecimal("100000.00"));
+        List<Transaction> spent = spendingService.spend(client, day, new BigDecimal("5000.00"), BigDecimal.ZERO,
+                CATEGORIES, SpendingService.random(seed, clientId, day), new DeferredTickWriter());
+        assertEquals(day, client.getLastSpendingDay());
+        return spent.stream().map(Transaction::getAmount).toList();
+    }
+}
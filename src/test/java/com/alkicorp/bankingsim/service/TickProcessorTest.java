@@ -0,0 +1,283 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.auth.model.User;
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import com.alkicorp.bankingsim.model.Loan;
+import com.alkicorp.bankingsim.model.Mortgage;
+import com.alkicorp.bankingsim.model.Product;
+import com.alkicorp.bankingsim.model.Transaction;
+import com.alkicorp.bankingsim.model.enums.LoanStatus;
+import com.alkicorp.bankingsim.model.enums.MortgageStatus;
+import com.alkicorp.bankingsim.model.enums.ProductStatus;
+import com.alkicorp.bankingsim.repository.ClientJobRepository;
+import com.alkicorp.bankingsim.repository.ClientLivingRepository;
+import com.alkicorp.bankingsim.repository.ClientRepository;
+import com.alkicorp.bankingsim.repository.LoanRepository;
+import com.alkicorp.bankingsim.repository.MortgageRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class TickProcessorTest {
+
+    private static final int SLOT_ID = 4;
+    private static final long USER_ID = 9L;
+
+    @Mock
+    private ClientRepository clientRepository;
+    @Mock
+    private LoanRepository loanRepository;
+    @Mock
+    private MortgageRepository mortgageRepository;
+    @Mock
+    private ClientLivingRepository clientLivingRepository;
+    @Mock
+    private ClientJobRepository clientJobRepository;
+    @Mock
+    private SpendingCategoryCatalog spendingCategoryCatalog;
+    @Mock
+    private RentService rentService;
+    @Mock
+    private SpendingService spendingService;
+    @Mock
+    private MandatorySpendService mandatorySpendService;
+    @Mock
+    private TickWriter writer;
+
+    private TickProcessor tickProcessor;
+
+    private BankState state;
+    private Client client;
+    private Loan loan;
+
+    @BeforeEach
+    void setUp() {
+        tickProcessor = tickProcessor(SimulationConstants.REPAYMENT_PERIOD_DAYS);
+        User user = new User();
+        user.setId(USER_ID);
+        state = new BankState();
+        state.setSlotId(SLOT_ID);
+        state.setUser(user);
+        state.setLiquidCash(new BigDecimal("1000.00"));
+        state.setInvestedSp500(BigDecimal.ZERO);
+        state.setRngSeed(42L);
+
+        client = new Client();
+        client.setId(1L);
+        client.setCheckingBalance(new BigDecimal("100000.00"));
+        client.setDailyWithdrawn(BigDecimal.ZERO);
+
+        loan = new Loan();
+        loan.setClient(client);
+        loan.setStatus(LoanStatus.APPROVED);
+        loan.setMonthlyPayment(new BigDecimal("100.00"));
+        loan.setNextPaymentDay(1);
+        loan.setMissedPayments(0);
+
+        when(clientRepository.findBySlotIdAndBankStateUserId(SLOT_ID, USER_ID)).thenReturn(List.of(client));
+        when(loanRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(List.of(loan));
+        when(mortgageRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(List.of());
+        when(clientLivingRepository.findBySlotIdAndClientBankStateUserId(SLOT_ID, USER_ID)).thenReturn(List.of());
+        when(clientJobRepository.findBySlotIdAndClientBankStateUserId(SLOT_ID, USER_ID)).thenReturn(List.of());
+        when(spendingCategoryCatalog.active()).thenReturn(List.of());
+    }
+
+    @Test
+    void replayDays_queriesOncePerAdvanceWhateverTheSpan() {
+        when(spendingService.resolveMonthlyIncome(any(), anyList(), any())).thenReturn(BigDecimal.ZERO);
+        when(mandatorySpendService.compute(any(), anyList(), anyList(), any())).thenReturn(BigDecimal.ZERO);
+
+        SlotWorkingSet set = tickProcessor.load(state);
+        tickProcessor.replayDays(set, 1, 120, writer);
+
+        verify(clientRepository).findBySlotIdAndBankStateUserId(SLOT_ID, USER_ID);
+        verify(loanRepository).findBySlotIdAndUserId(SLOT_ID, USER_ID);
+        verify(mortgageRepository).findBySlotIdAndUserId(SLOT_ID, USER_ID);
+        verify(clientLivingRepository).findBySlotIdAndClientBankStateUserId(SLOT_ID, USER_ID);
+        verify(clientJobRepository).findBySlotIdAndClientBankStateUserId(SLOT_ID, USER_ID);
+        verify(spendingCategoryCatalog).active();
+        verifyNoMoreInteractions(clientRepository, loanRepository, mortgageRepository, clientLivingRepository,
+            clientJobRepository, spendingCategoryCatalog);
+        verify(rentService, times(120)).chargeRent(anyList(), anyDouble(), eq(writer));
+        verify(spendingService, times(120)).spend(eq(client), anyInt(), any(), any(), anyList(), any(), eq(writer));
+        assertEquals(121, loan.getNextPaymentDay(), "the loan is still stepped every day");
+        assertEquals(0, new BigDecimal("88000.00").compareTo(client.getCheckingBalance()));
+    }
+
+    @Test
+    void replayDays_skipsDaysUpToTheSpendingWatermark() {
+        client.setLastSpendingDay(3);
+        when(spendingService.resolveMonthlyIncome(any(), anyList(), any())).thenReturn(BigDecimal.ZERO);
+        when(mandatorySpendService.compute(any(), anyList(), anyList(), any())).thenReturn(BigDecimal.ZERO);
+
+        SlotWorkingSet set = tickProcessor.load(state);
+        tickProcessor.replayDays(set, 1, 5, writer);
+
+        verify(spendingService).spend(eq(client), eq(4), any(), any(), anyList(), any(), eq(writer));
+        verify(spendingService).spend(eq(client), eq(5), any(), any(), anyList(), any(), eq(writer));
+        verify(spendingService, times(2)).spend(any(), anyInt(), any(), any(), anyList(), any(), any());
+    }
+
+    @Test
+    void replayDays_readsTheCachedMandatorySpendUntilAMortgageIsPaidOff() {
+        client.setMonthlyMandatoryCache(new BigDecimal("200.00"));
+        Product home = new Product();
+        home.setId(7L);
+        home.setStatus(ProductStatus.OWNED);
+        home.setOwnerClient(client);
+        Mortgage mortgage = new Mortgage();
+        mortgage.setClient(client);
+        mortgage.setProduct(home);
+        mortgage.setStatus(MortgageStatus.ACCEPTED);
+        mortgage.setMonthlyPayment(new BigDecimal("100.00"));
+        mortgage.setPropertyPrice(new BigDecimal("1000.00"));
+        mortgage.setTotalPaid(new BigDecimal("900.00"));
+        mortgage.setNextPaymentDay(2);
+        mortgage.setMissedPayments(0);
+        when(mortgageRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(List.of(mortgage));
+        when(spendingService.resolveMonthlyIncome(any(), anyList(), any())).thenReturn(BigDecimal.ZERO);
+        when(mandatorySpendService.compute(eq(client), anyList(), anyList(), any()))
+            .thenReturn(new BigDecimal("100.00"));
+
+        SlotWorkingSet set = tickProcessor.load(state);
+        tickProcessor.replayDays(set, 1, 4, writer);
+
+        verify(mandatorySpendService, times(1)).compute(eq(client), anyList(), anyList(), any());
+        verify(spendingService).spend(eq(client), eq(1), any(), eq(new BigDecimal("200.00")), anyList(), any(),
+            eq(writer));
+        verify(spendingService).spend(eq(client), eq(2), any(), eq(new BigDecimal("100.00")), anyList(), any(),
+            eq(writer));
+        assertNull(mortgage.getNextPaymentDay());
+        assertEquals(new BigDecimal("100.00"), client.getMonthlyMandatoryCache());
+    }
+
+    @Test
+    void replayDays_settlesADrainedAccountAsSteppingWouldWhenPaymentsAreDaysApart() {
+        tickProcessor = tickProcessor(3);
+        Client stepped = drainedClient(1L);
+        Loan steppedLoan = loanOf(stepped);
+        Mortgage steppedMortgage = mortgageOf(stepped, 7L);
+        Client settled = drainedClient(2L);
+        Loan settledLoan = loanOf(settled);
+        Mortgage settledMortgage = mortgageOf(settled, 8L);
+        when(clientRepository.findBySlotIdAndBankStateUserId(SLOT_ID, USER_ID))
+            .thenReturn(List.of(stepped), List.of(settled));
+        when(loanRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID))
+            .thenReturn(List.of(steppedLoan), List.of(settledLoan));
+        when(mortgageRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID))
+            .thenReturn(List.of(steppedMortgage), List.of(settledMortgage));
+
+        SlotWorkingSet steppedSet = tickProcessor.load(state);
+        for (int day = 1; day <= 12; day++) {
+            tickProcessor.replayDays(steppedSet, day, day, writer);
+        }
+        tickProcessor.replayDays(tickProcessor.load(state), 1, 12, writer);
+
+        // Due on days 2, 5, 8 and 11.
+        assertEquals(4, steppedLoan.getMissedPayments());
+        assertEquals(14, steppedLoan.getNextPaymentDay());
+        assertEquals(steppedLoan.getMissedPayments(), settledLoan.getMissedPayments());
+        assertEquals(steppedLoan.getNextPaymentDay(), settledLoan.getNextPaymentDay());
+        assertEquals(4, steppedMortgage.getMissedPayments());
+        assertEquals(steppedMortgage.getMissedPayments(), settledMortgage.getMissedPayments());
+        assertEquals(steppedMortgage.getPaymentsMade(), settledMortgage.getPaymentsMade());
+        assertEquals(steppedMortgage.getNextPaymentDay(), settledMortgage.getNextPaymentDay());
+    }
+
+    @Test
+    void replayDays_inParallelHandsEachPartitionsWritesOverInClientOrder() {
+        ReflectionTestUtils.setField(tickProcessor, "parallelThreads", 2);
+        ReflectionTestUtils.setField(tickProcessor, "parallelMinClients", 2);
+        Client second = new Client();
+        second.setId(2L);
+        second.setCheckingBalance(new BigDecimal("100000.00"));
+        second.setDailyWithdrawn(BigDecimal.ZERO);
+        Loan secondLoan = new Loan();
+        secondLoan.setClient(second);
+        secondLoan.setStatus(LoanStatus.APPROVED);
+        secondLoan.setMonthlyPayment(new BigDecimal("50.00"));
+        secondLoan.setNextPaymentDay(1);
+        secondLoan.setMissedPayments(0);
+        when(clientRepository.findBySlotIdAndBankStateUserId(SLOT_ID, USER_ID)).thenReturn(List.of(client, second));
+        when(loanRepository.findBySlotIdAndUserId(SLOT_ID, USER_ID)).thenReturn(List.of(secondLoan, loan));
+        when(spendingService.resolveMonthlyIncome(any(), anyList(), any())).thenReturn(BigDecimal.ZERO);
+        when(mandatorySpendService.compute(any(), anyList(), anyList(), any())).thenReturn(BigDecimal.ZERO);
+
+        try {
+            SlotWorkingSet set = tickProcessor.load(state);
+            tickProcessor.replayDays(set, 1, 5, writer);
+        } finally {
+            tickProcessor.shutdownPool();
+        }
+
+        ArgumentCaptor<Transaction> written = ArgumentCaptor.forClass(Transaction.class);
+        verify(writer, times(10)).transaction(written.capture());
+        assertEquals(List.of(1L, 1L, 1L, 1L, 1L, 2L, 2L, 2L, 2L, 2L),
+            written.getAllValues().stream().map(tx -> tx.getClient().getId()).toList());
+        assertEquals(0, new BigDecimal("99500.00").compareTo(client.getCheckingBalance()));
+        assertEquals(0, new BigDecimal("99750.00").compareTo(second.getCheckingBalance()));
+        assertEquals(6, secondLoan.getNextPaymentDay());
+    }
+
+    private TickProcessor tickProcessor(int repaymentPeriodDays) {
+        return new TickProcessor(clientRepository, loanRepository, mortgageRepository, clientLivingRepository,
+            clientJobRepository, spendingCategoryCatalog, rentService, spendingService, mandatorySpendService,
+            repaymentPeriodDays);
+    }
+
+    private static Client drainedClient(long id) {
+        Client drained = new Client();
+        drained.setId(id);
+        drained.setCheckingBalance(new BigDecimal("0.00"));
+        drained.setDailyWithdrawn(BigDecimal.ZERO);
+        return drained;
+    }
+
+    private static Loan loanOf(Client owner) {
+        Loan owed = new Loan();
+        owed.setClient(owner);
+        owed.setStatus(LoanStatus.APPROVED);
+        owed.setMonthlyPayment(new BigDecimal("100.00"));
+        owed.setNextPaymentDay(2);
+        owed.setMissedPayments(0);
+        return owed;
+    }
+
+    private static Mortgage mortgageOf(Client owner, long productId) {
+        Product home = new Product();
+        home.setId(productId);
+        home.setStatus(ProductStatus.OWNED);
+        home.setOwnerClient(owner);
+        Mortgage mortgage = new Mortgage();
+        mortgage.setClient(owner);
+        mortgage.setProduct(home);
+        mortgage.setStatus(MortgageStatus.ACCEPTED);
+        mortgage.setMonthlyPayment(new BigDecimal("100.00"));
+        mortgage.setPropertyPrice(new BigDecimal("1000.00"));
+        mortgage.setTotalPaid(BigDecimal.ZERO);
+        mortgage.setNextPaymentDay(2);
+        mortgage.setMissedPayments(0);
+        mortgage.setPaymentsMade(0);
+        return mortgage;
+    }
+}
@@ -0,0 +1,83 @@
+package com.alkicorp.bankingsim.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.alkicorp.bankingsim.model.BankState;
+import com.alkicorp.bankingsim.model.Client;
+import java.math.BigDecimal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class WriteBehindBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final WriteBehindBuffer buffer = new WriteBehindBuffer();
+    private BankState state;
+    private Client current;
+    private Client stale;
+
+    @BeforeEach
+    void setUp() {
+        state = new BankState();
+        state.setId(3L);
+        state.setVersion(5L);
+        state.setLiquidCash(new BigDecimal("1000.00"));
+        state.setInvestedSp500(BigDecimal.ZERO);
+        state.setGameDay(4.5);
+        current = client(1L, 2L);
+        stale = client(2L, 7L);
+        buffer.client(current);
+        buffer.client(stale);
+    }
+
+    @Test
+    void writeTo_failsWhenARowChangedSinceTheSlotWasLoaded() {
+        when(jdbcTemplate.batchUpdate(startsWith("update client set"), anyList(), any(int[].class)))
+            .thenReturn(new int[] {1, 0});
+
+        assertThrows(OptimisticLockingFailureException.class, () -> buffer.writeTo(jdbcTemplate, state));
+
+        verify(jdbcTemplate, never()).update(startsWith("update bank_state"), any(Object[].class));
+    }
+
+    @Test
+    void committed_movesTheHeldRowsToTheirFlushedVersions() {
+        when(jdbcTemplate.batchUpdate(startsWith("update client set"), anyList(), any(int[].class)))
+            .thenReturn(new int[] {1, 1});
+        when(jdbcTemplate.update(startsWith("update bank_state"), any(Object[].class))).thenReturn(1);
+
+        buffer.writeTo(jdbcTemplate, state);
+        buffer.committed(state);
+
+        assertEquals(3L, current.getVersion());
+        assertEquals(8L, stale.getVersion());
+        assertEquals(6L, state.getVersion());
+        assertEquals(0, buffer.pendingRows());
+        verify(jdbcTemplate).update(startsWith("update bank_state"), eq(new Object[] {
+            state.getLiquidCash(), state.getInvestedSp500(), state.getGameDay(), null, null, null, 3L, 5L }));
+    }
+
+    private static Client client(long id, long version) {
+        Client client = new Client();
+        client.setId(id);
+        client.setVersion(version);
+        client.setCheckingBalance(new BigDecimal("10.00"));
+        return client;
+    }
+}
@@ -0,0 +1,25 @@
+package com.alkicorp.bankingsim.web;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.alkicorp.bankingsim.service.SimulationTickStats;
+import org.junit.jupiter.api.Test;
+
+class SimulationControllerTest {
+
+    @Test
+    void tickStatsReportsWhatTheTickerRecorded() {
+        SimulationTickStats stats = new SimulationTickStats();
+        stats.recordTick(3, 1, 4_000_000L);
+        stats.recordTick(2, 0, 2_000_000L);
+
+        SimulationTickStats.Snapshot snapshot = new SimulationController(stats).tickStats();
+
+        assertEquals(2, snapshot.ticks());
+        assertEquals(4, snapshot.slotsAdvanced());
+        assertEquals(1, snapshot.failures());
+        assertEquals(3.0, snapshot.avgTickMs());
+        assertEquals(2.0, snapshot.lastTickMs());
+        assertEquals(4.0, snapshot.maxTickMs());
+    }
+}